@@ -0,0 +1,4 @@
+package com.fc.kelton.admin.catalogo.application;
+
+public interface ReadOnlyUseCase {
+}
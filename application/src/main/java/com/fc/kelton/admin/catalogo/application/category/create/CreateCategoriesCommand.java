@@ -0,0 +1,12 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesCommand(
+        List<CreateCategoryCommand> items
+) {
+
+    public static CreateCategoriesCommand with(final List<CreateCategoryCommand> anItems) {
+        return new CreateCategoriesCommand(anItems);
+    }
+}
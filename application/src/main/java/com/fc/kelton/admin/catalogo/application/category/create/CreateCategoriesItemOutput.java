@@ -0,0 +1,22 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record CreateCategoriesItemOutput(
+        int index,
+        String id,
+        List<Error> errors
+) {
+
+    public static CreateCategoriesItemOutput created(final int anIndex, final Category aCategory) {
+        return new CreateCategoriesItemOutput(anIndex, aCategory.getId().getValue(), List.of());
+    }
+
+    public static CreateCategoriesItemOutput rejected(final int anIndex, final Notification aNotification) {
+        return new CreateCategoriesItemOutput(anIndex, null, List.copyOf(aNotification.getErrors()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesOutput(
+        int created,
+        int rejected,
+        List<CreateCategoriesItemOutput> items
+) {
+
+    public static CreateCategoriesOutput from(final List<CreateCategoriesItemOutput> anItems) {
+        final var created = (int) anItems.stream()
+                .filter(item -> item.errors().isEmpty())
+                .count();
+        return new CreateCategoriesOutput(created, anItems.size() - created, anItems);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import com.fc.kelton.admin.catalogo.application.UseCase;
+
+public abstract class CreateCategoriesUseCase extends UseCase<CreateCategoriesCommand, CreateCategoriesOutput> {
+
+}
@@ -0,0 +1,86 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+    private final int chunkSize;
+
+    public DefaultCreateCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final IdGenerator idGenerator,
+            final int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public CreateCategoriesOutput execute(final CreateCategoriesCommand aCommand) {
+        final var commands = aCommand.items();
+        final var results = new CreateCategoriesItemOutput[commands.size()];
+
+        final var validIndexes = new ArrayList<Integer>();
+        final var validCategories = new ArrayList<Category>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var anItem = commands.get(i);
+            final var notification = Notification.create();
+
+            final var aCategory = Category.newCategory(this.idGenerator, anItem.name(), anItem.description(), anItem.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                results[i] = CreateCategoriesItemOutput.rejected(i, notification);
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        for (int from = 0; from < validCategories.size(); from += this.chunkSize) {
+            final var to = Math.min(from + this.chunkSize, validCategories.size());
+            createAll(validCategories.subList(from, to), validIndexes.subList(from, to), results);
+        }
+
+        return CreateCategoriesOutput.from(Arrays.asList(results));
+    }
+
+    private void createAll(
+            final List<Category> aChunk,
+            final List<Integer> indexes,
+            final CreateCategoriesItemOutput[] results
+    ) {
+        final var attempt = API.Try(() -> this.categoryGateway.createAll(aChunk));
+
+        if (attempt.isFailure() && attempt.getCause() instanceof UnavailableException unavailable) {
+            throw unavailable;
+        }
+
+        attempt.toEither()
+                .mapLeft(Notification::create)
+                .peek(created -> {
+                    for (int i = 0; i < indexes.size(); i++) {
+                        results[indexes.get(i)] = CreateCategoriesItemOutput.created(indexes.get(i), created.get(i));
+                    }
+                })
+                .peekLeft(notification -> indexes.forEach(index ->
+                        results[index] = CreateCategoriesItemOutput.rejected(index, notification)));
+    }
+}
@@ -1,19 +1,25 @@
 package com.fc.kelton.admin.catalogo.application.category.create;
 
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
 
+import java.util.Objects;
+
 import static io.vavr.API.Left;
 
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
 
-    public DefaultCreateCategoryUseCase(CategoryGateway categoryGateway) {
+    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway, final IdGenerator idGenerator) {
         this.categoryGateway = categoryGateway;
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
@@ -24,17 +30,22 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
         final var notification = Notification.create();
 
-        final var aCategory = Category.newCategory(aName, aDescription, isActive);
+        final var aCategory = Category.newCategory(this.idGenerator, aName, aDescription, isActive);
         aCategory.validate(notification);
 
         return notification.hasErrors() ? Left(notification) : create(aCategory);
     }
 
     private Either<Notification, CreateCategoryOutput> create(final Category aCategory) {
-        return API.Try(() -> this.categoryGateway.create(aCategory))
+        final var created = API.Try(() -> this.categoryGateway.create(aCategory));
+
+        if (created.isFailure() && created.getCause() instanceof UnavailableException unavailable) {
+            throw unavailable;
+        }
+
+        return created
                 .toEither()
                 .bimap(Notification::create, CreateCategoryOutput::from);
-
     }
 
 }
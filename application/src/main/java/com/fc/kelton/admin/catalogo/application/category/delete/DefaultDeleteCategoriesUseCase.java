@@ -0,0 +1,43 @@
+package com.fc.kelton.admin.catalogo.application.category.delete;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private static final int MAX_IDS = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public DeleteCategoriesOutput execute(final DeleteCategoriesCommand aCommand) {
+        final var anIds = Optional.ofNullable(aCommand.ids())
+                .orElseGet(List::of)
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(anId -> !anId.isBlank())
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        if (anIds.isEmpty()) {
+            throw DomainException.with(new Error("'ids' should not be empty"));
+        }
+
+        if (anIds.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' should have at most %d entries".formatted(MAX_IDS)));
+        }
+
+        return DeleteCategoriesOutput.from(this.categoryGateway.deleteAllById(anIds));
+    }
+}
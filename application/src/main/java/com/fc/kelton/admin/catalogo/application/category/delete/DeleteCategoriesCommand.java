@@ -0,0 +1,12 @@
+package com.fc.kelton.admin.catalogo.application.category.delete;
+
+import java.util.List;
+
+public record DeleteCategoriesCommand(
+        List<String> ids
+) {
+
+    public static DeleteCategoriesCommand with(final List<String> anIds) {
+        return new DeleteCategoriesCommand(anIds);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fc.kelton.admin.catalogo.application.category.delete;
+
+public record DeleteCategoriesOutput(
+        int deleted
+) {
+
+    public static DeleteCategoriesOutput from(final int aDeletedCount) {
+        return new DeleteCategoriesOutput(aDeletedCount);
+    }
+}
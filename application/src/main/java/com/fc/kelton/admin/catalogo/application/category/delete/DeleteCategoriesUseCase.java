@@ -0,0 +1,6 @@
+package com.fc.kelton.admin.catalogo.application.category.delete;
+
+import com.fc.kelton.admin.catalogo.application.UseCase;
+
+public abstract class DeleteCategoriesUseCase extends UseCase<DeleteCategoriesCommand, DeleteCategoriesOutput> {
+}
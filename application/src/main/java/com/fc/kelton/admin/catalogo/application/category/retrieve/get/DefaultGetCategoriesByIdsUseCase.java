@@ -0,0 +1,61 @@
+package com.fc.kelton.admin.catalogo.application.category.retrieve.get;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private static final int MAX_IDS = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public GetCategoriesByIdsOutput execute(final GetCategoriesByIdsCommand aCommand) {
+        final var anIds = Optional.ofNullable(aCommand.ids())
+                .orElseGet(List::of)
+                .stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(anId -> !anId.isEmpty())
+                .map(anId -> anId.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+
+        if (anIds.isEmpty()) {
+            throw DomainException.with(new Error("'ids' should not be empty"));
+        }
+
+        if (anIds.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' should have at most %d entries".formatted(MAX_IDS)));
+        }
+
+        final var byId = this.categoryGateway.findAllByIds(anIds.stream().map(CategoryID::from).toList())
+                .stream()
+                .collect(Collectors.toMap(aCategory -> aCategory.getId().getValue(), Function.identity(), (first, second) -> first));
+
+        final var items = anIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(CategoryOutput::from)
+                .toList();
+
+        final var missing = anIds.stream()
+                .filter(anId -> !byId.containsKey(anId))
+                .toList();
+
+        return GetCategoriesByIdsOutput.from(items, missing);
+    }
+}
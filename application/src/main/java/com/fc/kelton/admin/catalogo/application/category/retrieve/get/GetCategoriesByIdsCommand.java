@@ -0,0 +1,12 @@
+package com.fc.kelton.admin.catalogo.application.category.retrieve.get;
+
+import java.util.List;
+
+public record GetCategoriesByIdsCommand(
+        List<String> ids
+) {
+
+    public static GetCategoriesByIdsCommand with(final List<String> anIds) {
+        return new GetCategoriesByIdsCommand(anIds);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fc.kelton.admin.catalogo.application.category.retrieve.get;
+
+import java.util.List;
+
+public record GetCategoriesByIdsOutput(
+        List<CategoryOutput> items,
+        List<String> missing
+) {
+
+    public static GetCategoriesByIdsOutput from(final List<CategoryOutput> anItems, final List<String> aMissing) {
+        return new GetCategoriesByIdsOutput(anItems, aMissing);
+    }
+}
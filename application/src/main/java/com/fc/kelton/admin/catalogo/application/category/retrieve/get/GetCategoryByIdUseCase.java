@@ -1,6 +1,7 @@
 package com.fc.kelton.admin.catalogo.application.category.retrieve.get;
 
+import com.fc.kelton.admin.catalogo.application.ReadOnlyUseCase;
 import com.fc.kelton.admin.catalogo.application.UseCase;
 
-public abstract class GetCategoryByIdUseCase extends UseCase<String, CategoryOutput> {
+public abstract class GetCategoryByIdUseCase extends UseCase<String, CategoryOutput> implements ReadOnlyUseCase {
 }
@@ -2,6 +2,7 @@ package com.fc.kelton.admin.catalogo.application.category.retrieve.list;
 
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -9,7 +10,7 @@ public record CategoryListOutput(
         CategoryID id,
         String name,
         String description,
-        boolean isActive,
+        Boolean isActive,
         Instant createdAt,
         Instant updatedAt,
         Instant deletedAt
@@ -26,4 +27,16 @@ public record CategoryListOutput(
                 aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategorySummary aSummary) {
+        return new CategoryListOutput(
+                aSummary.id(),
+                aSummary.name(),
+                aSummary.description(),
+                aSummary.isActive(),
+                aSummary.createdAt(),
+                aSummary.updatedAt(),
+                aSummary.deletedAt()
+        );
+    }
 }
@@ -3,11 +3,17 @@ package com.fc.kelton.admin.catalogo.application.category.retrieve.list;
 import com.fc.kelton.admin.catalogo.domain.Pagination;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
 
 import java.util.Objects;
+import java.util.Set;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt", "updatedAt", "relevance");
+    private static final Set<String> DIRECTIONS = Set.of("asc", "desc");
+
     private final CategoryGateway categoryGateway;
 
     public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
@@ -16,9 +22,15 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
-                .map(CategoryListOutput::from);
-    }
+        if (!SORTABLE.contains(aQuery.sort())) {
+            throw DomainException.with(new Error("'sort' must be one of name, createdAt, updatedAt or relevance"));
+        }
 
+        if (aQuery.direction() == null || !DIRECTIONS.contains(aQuery.direction().toLowerCase())) {
+            throw DomainException.with(new Error("'dir' must be one of asc or desc"));
+        }
 
+        return this.categoryGateway.findSummaries(aQuery)
+                .map(CategoryListOutput::from);
+    }
 }
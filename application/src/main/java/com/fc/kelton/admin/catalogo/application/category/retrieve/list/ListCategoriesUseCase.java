@@ -1,8 +1,9 @@
 package com.fc.kelton.admin.catalogo.application.category.retrieve.list;
 
+import com.fc.kelton.admin.catalogo.application.ReadOnlyUseCase;
 import com.fc.kelton.admin.catalogo.application.UseCase;
 import com.fc.kelton.admin.catalogo.domain.Pagination;
 import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
 
-public abstract class ListCategoriesUseCase extends UseCase<CategorySearchQuery, Pagination<CategoryListOutput>> {
+public abstract class ListCategoriesUseCase extends UseCase<CategorySearchQuery, Pagination<CategoryListOutput>> implements ReadOnlyUseCase {
 }
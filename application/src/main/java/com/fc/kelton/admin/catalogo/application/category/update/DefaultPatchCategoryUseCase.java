@@ -0,0 +1,69 @@
+package com.fc.kelton.admin.catalogo.application.category.update;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultPatchCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, PatchCategoryOutput> execute(final PatchCategoryCommand aCommand) {
+        final var aPatch = CategoryPatch.with(
+                CategoryID.from(aCommand.id()),
+                aCommand.expectedUpdatedAt(),
+                aCommand.fields(),
+                aCommand.name(),
+                aCommand.description(),
+                aCommand.isActive(),
+                aCommand.expectedVersion()
+        );
+
+        final var notification = Notification.create();
+        aPatch.validate(notification);
+
+        return notification.hasErrors() ? Left(notification) : patch(aPatch);
+    }
+
+    private Either<Notification, PatchCategoryOutput> patch(final CategoryPatch aPatch) {
+        final var attempt = API.Try(() -> this.categoryGateway.patch(aPatch));
+
+        if (attempt.isFailure() && attempt.getCause() instanceof UnavailableException unavailable) {
+            throw unavailable;
+        }
+
+        final var patched = attempt
+                .toEither()
+                .mapLeft(Notification::create);
+
+        if (patched.isRight() && patched.get() == 0) {
+            throw missingOrStale(aPatch);
+        }
+
+        return patched.map(rows -> PatchCategoryOutput.from(aPatch));
+    }
+
+    private DomainException missingOrStale(final CategoryPatch aPatch) {
+        if (aPatch.isConditional() && this.categoryGateway.findById(aPatch.id()).isPresent()) {
+            return ConflictException.with(Category.class, aPatch.id());
+        }
+        return NotFoundException.with(Category.class, aPatch.id());
+    }
+}
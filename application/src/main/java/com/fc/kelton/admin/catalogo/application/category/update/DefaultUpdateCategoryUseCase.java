@@ -3,8 +3,10 @@ package com.fc.kelton.admin.catalogo.application.category.update;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fc.kelton.admin.catalogo.domain.validation.Error;
 import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
@@ -35,6 +37,10 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aCategory = this.categoryGateway.findById(anId)
                 .orElseThrow(notFound(anId));
 
+        if (aCommand.expectedVersion() != null && aCommand.expectedVersion() != aCategory.getVersion()) {
+            throw ConflictException.with(Category.class, anId);
+        }
+
         aCategory
                 .update(aName, aDescription, isActive)
                 .validate(notification);
@@ -43,7 +49,17 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return API.Try(() -> this.categoryGateway.update(aCategory))
+        final var updated = API.Try(() -> this.categoryGateway.update(aCategory));
+
+        if (updated.isFailure() && updated.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        if (updated.isFailure() && updated.getCause() instanceof UnavailableException unavailable) {
+            throw unavailable;
+        }
+
+        return updated
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -0,0 +1,40 @@
+package com.fc.kelton.admin.catalogo.application.category.update;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record PatchCategoryCommand(
+        String id,
+        Instant expectedUpdatedAt,
+        Set<CategoryPatch.Field> fields,
+        String name,
+        String description,
+        boolean isActive,
+        Long expectedVersion
+) {
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final Instant anExpectedUpdatedAt,
+            final Set<CategoryPatch.Field> aFields,
+            final String aName,
+            final String aDescription,
+            final boolean isActive
+    ) {
+        return with(anId, anExpectedUpdatedAt, aFields, aName, aDescription, isActive, null);
+    }
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final Instant anExpectedUpdatedAt,
+            final Set<CategoryPatch.Field> aFields,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Long anExpectedVersion
+    ) {
+        return new PatchCategoryCommand(anId, anExpectedUpdatedAt, aFields, aName, aDescription, isActive, anExpectedVersion);
+    }
+}
@@ -0,0 +1,15 @@
+package com.fc.kelton.admin.catalogo.application.category.update;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+
+import java.time.Instant;
+
+public record PatchCategoryOutput(
+        String id,
+        Instant updatedAt
+) {
+
+    public static PatchCategoryOutput from(final CategoryPatch aPatch) {
+        return new PatchCategoryOutput(aPatch.id().getValue(), aPatch.updatedAt());
+    }
+}
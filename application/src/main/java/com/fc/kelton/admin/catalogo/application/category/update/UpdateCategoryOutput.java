@@ -3,14 +3,15 @@ package com.fc.kelton.admin.catalogo.application.category.update;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 
 public record UpdateCategoryOutput(
-        String id
+        String id,
+        long version
 ) {
 
-    public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
+    public static UpdateCategoryOutput from(final String anId, final long aVersion) {
+        return new UpdateCategoryOutput(anId, aVersion);
     }
 
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().getValue());
+        return new UpdateCategoryOutput(aCategory.getId().getValue(), aCategory.getVersion());
     }
 }
@@ -0,0 +1,117 @@
+package com.fc.kelton.admin.catalogo.application.category.create;
+
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void setUp() {
+        useCase = new DefaultCreateCategoriesUseCase(categoryGateway, IdGenerator.random(), 2);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategories_shouldPersistInChunks() {
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, false)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(3, actualOutput.created());
+        Assertions.assertEquals(0, actualOutput.rejected());
+        Assertions.assertEquals(3, actualOutput.items().size());
+        actualOutput.items().forEach(item -> {
+            Assertions.assertNotNull(item.id());
+            Assertions.assertTrue(item.errors().isEmpty());
+        });
+
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .createAll(Mockito.argThat(chunk -> chunk.size() == 2));
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .createAll(Mockito.argThat(chunk -> chunk.size() == 1));
+    }
+
+    @Test
+    public void givenSomeInvalidCommands_whenCallsCreateCategories_shouldReturnPerItemErrors() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Series", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(2, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.rejected());
+
+        final var rejected = actualOutput.items().get(1);
+        Assertions.assertEquals(1, rejected.index());
+        Assertions.assertNull(rejected.id());
+        Assertions.assertEquals(expectedErrorMessage, rejected.errors().get(0).message());
+
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertNotNull(actualOutput.items().get(2).id());
+
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .createAll(Mockito.argThat(chunk -> chunk.size() == 2));
+    }
+
+    @Test
+    public void givenAGatewayFailureOnAChunk_whenCallsCreateCategories_shouldRejectOnlyThatChunk() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg())
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(2, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.rejected());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(2).errors().get(0).message());
+    }
+
+    @Test
+    public void givenASaturatedGateway_whenCallsCreateCategories_shouldPropagateUnavailable() {
+        final var aCommand = CreateCategoriesCommand.with(List.of(CreateCategoryCommand.with("Filmes", null, true)));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenThrow(UnavailableException.with("Timed out waiting for a category database slot"));
+
+        Assertions.assertThrows(UnavailableException.class, () -> useCase.execute(aCommand));
+    }
+}
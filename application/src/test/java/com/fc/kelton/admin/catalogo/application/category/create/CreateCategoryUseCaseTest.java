@@ -1,31 +1,32 @@
 package com.fc.kelton.admin.catalogo.application.category.create;
 
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
+import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateCategoryUseCaseTest {
 
-    @InjectMocks
     private DefaultCreateCategoryUseCase useCase;
 
     @Mock
     private CategoryGateway categoryGateway;
 
     @BeforeEach
-    public void cleanUp() {
-        Mockito.reset(categoryGateway);
+    public void setUp() {
+        useCase = new DefaultCreateCategoryUseCase(categoryGateway, IdGenerator.random());
     }
 
     @Test
@@ -57,6 +58,19 @@ public class CreateCategoryUseCaseTest {
                 ));
     }
 
+    @Test
+    public void givenAnIdGenerator_whenCallsCreateCategory_shouldUseItForTheNewId() {
+        final var expectedId = UUID.fromString("018f3a8e-7c4b-7d2a-9f10-3b6c2d1e4f5a");
+        final var aUseCase = new DefaultCreateCategoryUseCase(categoryGateway, () -> expectedId);
+
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = aUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get();
+
+        Assertions.assertEquals(expectedId.toString(), actualOutput.id());
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnDomainException() {
         final String expectedName = null;
@@ -134,4 +148,14 @@ public class CreateCategoryUseCaseTest {
                                 && Objects.isNull(aCategory.getDeletedAt())
                 ));
     }
+
+    @Test
+    public void givenASaturatedGateway_whenCallsCreateCategory_shouldPropagateUnavailable() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenThrow(UnavailableException.with("Timed out waiting for a category database slot"));
+
+        Assertions.assertThrows(UnavailableException.class, () -> useCase.execute(aCommand));
+    }
 }
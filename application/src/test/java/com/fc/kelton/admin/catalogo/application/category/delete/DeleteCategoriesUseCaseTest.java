@@ -0,0 +1,68 @@
+package com.fc.kelton.admin.catalogo.application.category.delete;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_shouldReturnDeletedCount() {
+        final var expectedIds = List.of(CategoryID.from("123"), CategoryID.from("456"));
+        final var expectedDeleted = 1;
+
+        Mockito.when(categoryGateway.deleteAllById(Mockito.eq(expectedIds)))
+                .thenReturn(expectedDeleted);
+
+        final var actualOutput = useCase.execute(DeleteCategoriesCommand.with(List.of("123", "456", "123", " ")));
+
+        Assertions.assertEquals(expectedDeleted, actualOutput.deleted());
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteAllById(expectedIds);
+    }
+
+    @Test
+    public void givenEmptyIds_whenCallsDeleteCategories_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' should not be empty";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> useCase.execute(DeleteCategoriesCommand.with(List.of())));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).deleteAllById(Mockito.any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsDeleteCategories_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' should have at most 1000 entries";
+        final var anIds = IntStream.rangeClosed(0, 1000).mapToObj(String::valueOf).toList();
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> useCase.execute(DeleteCategoriesCommand.with(anIds)));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).deleteAllById(Mockito.any());
+    }
+}
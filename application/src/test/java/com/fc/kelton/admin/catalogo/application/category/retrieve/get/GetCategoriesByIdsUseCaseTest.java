@@ -0,0 +1,82 @@
+package com.fc.kelton.admin.catalogo.application.category.retrieve.get;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsGetCategoriesByIds_shouldReturnItemsInRequestOrderAndMissingIds() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var aMissingId = "123";
+
+        final var expectedIds = List.of(series.getId(), CategoryID.from(aMissingId), filmes.getId());
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.eq(expectedIds)))
+                .thenReturn(List.of(filmes, series));
+
+        final var actualOutput = useCase.execute(GetCategoriesByIdsCommand.with(List.of(
+                series.getId().getValue().toUpperCase(),
+                aMissingId,
+                filmes.getId().getValue(),
+                series.getId().getValue(),
+                " "
+        )));
+
+        Assertions.assertEquals(
+                List.of(series.getId(), filmes.getId()),
+                actualOutput.items().stream().map(CategoryOutput::id).toList()
+        );
+        Assertions.assertEquals(List.of(aMissingId), actualOutput.missing());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllByIds(expectedIds);
+    }
+
+    @Test
+    public void givenEmptyIds_whenCallsGetCategoriesByIds_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' should not be empty";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> useCase.execute(GetCategoriesByIdsCommand.with(List.of(" "))));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIds_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' should have at most 1000 entries";
+        final var anIds = IntStream.rangeClosed(0, 1000).mapToObj(String::valueOf).toList();
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> useCase.execute(GetCategoriesByIdsCommand.with(anIds)));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByIds(Mockito.any());
+    }
+}
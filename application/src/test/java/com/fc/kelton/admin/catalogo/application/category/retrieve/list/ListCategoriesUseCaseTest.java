@@ -4,6 +4,8 @@ import com.fc.kelton.admin.catalogo.domain.Pagination;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 public class ListCategoriesUseCaseTest {
@@ -31,10 +34,10 @@ public class ListCategoriesUseCaseTest {
 
     @Test
     public void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
-        final var categories = List.of(
+        final var categories = Stream.of(
                 Category.newCategory("Sci-fi", null, true),
                 Category.newCategory("Fantasy", null, true)
-        );
+        ).map(CategorySummary::from).toList();
         final var expectedPage = 0;
         final var expectedPerPage = 10;
         final var expectedItemsCount = 2;
@@ -45,7 +48,7 @@ public class ListCategoriesUseCaseTest {
         final var aQuery = new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
 
-        Mockito.when(categoryGateway.findAll(Mockito.eq(aQuery)))
+        Mockito.when(categoryGateway.findSummaries(Mockito.eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
@@ -60,7 +63,7 @@ public class ListCategoriesUseCaseTest {
 
     @Test
     public void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategorySummary>of();
         final var expectedPage = 0;
         final var expectedPerPage = 10;
         final var expectedItemsCount = 0;
@@ -70,7 +73,7 @@ public class ListCategoriesUseCaseTest {
         final var aQuery = new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
 
-        Mockito.when(categoryGateway.findAll(Mockito.eq(aQuery)))
+        Mockito.when(categoryGateway.findSummaries(Mockito.eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
@@ -96,7 +99,7 @@ public class ListCategoriesUseCaseTest {
 
         final var aQuery = new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        Mockito.when(categoryGateway.findAll(Mockito.eq(aQuery)))
+        Mockito.when(categoryGateway.findSummaries(Mockito.eq(aQuery)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aQuery));
@@ -104,4 +107,28 @@ public class ListCategoriesUseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
     }
+
+    @Test
+    public void givenAnUnindexedSort_whenCallsListCategories_shouldThrowDomainExceptionWithoutQuerying() {
+        final var expectedErrorMessage = "'sort' must be one of name, createdAt, updatedAt or relevance";
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).findSummaries(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsListCategories_shouldThrowDomainExceptionWithoutQuerying() {
+        final var expectedErrorMessage = "'dir' must be one of asc or desc";
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "sideways");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).findSummaries(Mockito.any());
+    }
 }
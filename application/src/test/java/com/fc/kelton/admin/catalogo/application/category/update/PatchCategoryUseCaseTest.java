@@ -0,0 +1,153 @@
+package com.fc.kelton.admin.catalogo.application.category.update;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+
+@ExtendWith(MockitoExtension.class)
+public class PatchCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidMask_whenCallsPatchCategory_shouldPatchOnlyMaskedFields() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+        final var expectedName = "Cinema";
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(),
+                aCategory.getUpdatedAt(),
+                Set.of(CategoryPatch.Field.NAME),
+                expectedName,
+                null,
+                false
+        );
+
+        Mockito.when(categoryGateway.patch(any())).thenReturn(1);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertNotNull(actualOutput.updatedAt());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).patch(argThat(aPatch ->
+                Objects.equals(expectedId, aPatch.id())
+                        && Objects.equals(aCategory.getUpdatedAt(), aPatch.expectedUpdatedAt())
+                        && Objects.equals(expectedName, aPatch.name())
+                        && aPatch.changes(CategoryPatch.Field.NAME)
+                        && !aPatch.changes(CategoryPatch.Field.ACTIVE)
+                        && !aPatch.changes(CategoryPatch.Field.DESCRIPTION)
+        ));
+        Mockito.verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommand = PatchCategoryCommand.with("123", null, Set.of(CategoryPatch.Field.NAME), null, null, true);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).patch(any());
+    }
+
+    @Test
+    public void givenAStaleUpdatedAt_whenCallsPatchCategory_shouldThrowConflictException() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(),
+                aCategory.getCreatedAt().minusSeconds(60),
+                Set.of(CategoryPatch.Field.ACTIVE),
+                null,
+                null,
+                false
+        );
+
+        Mockito.when(categoryGateway.patch(any())).thenReturn(0);
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsPatchCategory_shouldThrowNotFoundException() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        final var aCommand = PatchCategoryCommand.with("123", null, Set.of(CategoryPatch.Field.ACTIVE), null, null, false);
+
+        Mockito.when(categoryGateway.patch(any())).thenReturn(0);
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenASaturatedGateway_whenCallsPatchCategory_shouldPropagateUnavailable() {
+        final var aCommand = PatchCategoryCommand.with("123", null, Set.of(CategoryPatch.Field.ACTIVE), null, null, false);
+
+        Mockito.when(categoryGateway.patch(any()))
+                .thenThrow(UnavailableException.with("Timed out waiting for a category database slot"));
+
+        Assertions.assertThrows(UnavailableException.class, () -> useCase.execute(aCommand));
+        Mockito.verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsPatchCategory_shouldThrowConflictException() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true,
+                aCategory.getVersion() + 1
+        );
+
+        Mockito.when(categoryGateway.patch(any())).thenReturn(0);
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+        Mockito.verify(categoryGateway, Mockito.times(1)).patch(argThat(aPatch ->
+                Objects.equals(aCategory.getVersion() + 1, aPatch.expectedVersion())
+        ));
+    }
+}
@@ -3,8 +3,10 @@ package com.fc.kelton.admin.catalogo.application.category.update;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -220,4 +222,64 @@ public class UpdateCategoryUseCaseTest {
 
         Mockito.verify(categoryGateway, Mockito.times(0)).update(Mockito.any());
     }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsUpdateCategory_shouldThrowConflictWithoutUpdating() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                aCategory.getVersion() + 1
+        );
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        final var actualException = Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(categoryGateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenGatewayThrowsConflict_shouldPropagateConflict() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                aCategory.getVersion()
+        );
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+    }
+
+    @Test
+    public void givenASaturatedGateway_whenCallsUpdateCategory_shouldPropagateUnavailable() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.update(any()))
+                .thenThrow(UnavailableException.with("Timed out waiting for a category database slot"));
+
+        Assertions.assertThrows(UnavailableException.class, () -> useCase.execute(aCommand));
+    }
 }
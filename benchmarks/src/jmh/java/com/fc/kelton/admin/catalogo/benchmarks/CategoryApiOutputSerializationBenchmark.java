@@ -0,0 +1,45 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryApiOutput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryApiOutputSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private CategoryApiOutput anOutput;
+
+    @Setup
+    public void setUp() {
+        this.mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.anOutput = CategoryApiPresenter.present(CategoryOutput.from(aCategory));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(anOutput);
+    }
+}
@@ -0,0 +1,113 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryGatewayBenchmark {
+
+    private static final int SEED_CHUNK = 500;
+    private static final int LISTING_SIZE = 100;
+    private static final Sort BY_NAME = Sort.by(Sort.Direction.ASC, "name", "id");
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private CategoryMySQLGateway gateway;
+    private CategoryRepository repository;
+
+    @Setup
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.[hibernate.generate_statistics]=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        this.gateway = this.context.getBean(CategoryMySQLGateway.class);
+        this.repository = this.context.getBean(CategoryRepository.class);
+
+        for (int offset = 0; offset < rows; offset += SEED_CHUNK) {
+            final var chunk = new ArrayList<Category>(SEED_CHUNK);
+            for (int i = offset; i < Math.min(rows, offset + SEED_CHUNK); i++) {
+                chunk.add(Category.newCategory("Category " + i, "Seeded description " + i, i % 10 != 0));
+            }
+            this.gateway.createAll(chunk);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllFirstPageByName() {
+        return gateway.findAll(new CategorySearchQuery(0, 25, "", "name", "asc"));
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllDeepPageByCreatedAt() {
+        return gateway.findAll(new CategorySearchQuery(rows / 50, 25, "", "createdAt", "desc"));
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllByTerms() {
+        return gateway.findAll(new CategorySearchQuery(0, 25, "category 12", "name", "asc"));
+    }
+
+    @Benchmark
+    public List<CategoryListOutput> listByEntityHydration() {
+        return repository.findSlice(null, BY_NAME, 0, LISTING_SIZE).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .map(CategoryListOutput::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CategoryListOutput> listByProjection() {
+        return repository.findSummarySlice(null, BY_NAME, 0, LISTING_SIZE, CategorySummary.Field.ALL).stream()
+                .map(CategoryListOutput::from)
+                .toList();
+    }
+
+    @Benchmark
+    public Pagination<CategorySummary> findSummariesFirstPageByName() {
+        return gateway.findSummaries(new CategorySearchQuery(0, 25, "", "name", "asc"));
+    }
+
+    @Benchmark
+    public Category create() {
+        return gateway.create(Category.newCategory("Benchmark", "Created by the benchmark", true));
+    }
+}
@@ -0,0 +1,43 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryJpaEntityBenchmark {
+
+    private Category aCategory;
+    private CategoryJpaEntity anEntity;
+
+    @Setup
+    public void setUp() {
+        this.aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.anEntity = CategoryJpaEntity.from(aCategory);
+    }
+
+    @Benchmark
+    public CategoryJpaEntity from() {
+        return CategoryJpaEntity.from(aCategory);
+    }
+
+    @Benchmark
+    public Category toAggregate() {
+        return anEntity.toAggregate();
+    }
+
+    @Benchmark
+    public Category roundTrip() {
+        return CategoryJpaEntity.from(aCategory).toAggregate();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryValidationBenchmark {
+
+    private final String longName = "x".repeat(300);
+
+    @Benchmark
+    public Notification newValidCategory() {
+        final var notification = Notification.create();
+        Category.newCategory("Filmes", "A categoria mais assistida", true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newCategoryWithBlankName() {
+        final var notification = Notification.create();
+        Category.newCategory(" ", "A categoria mais assistida", true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newCategoryWithLongName() {
+        final var notification = Notification.create();
+        Category.newCategory(longName, null, false).validate(notification);
+        return notification;
+    }
+}
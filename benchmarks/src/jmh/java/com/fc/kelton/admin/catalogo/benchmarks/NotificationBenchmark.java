@@ -0,0 +1,54 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int errors;
+
+    private Error[] anErrors;
+
+    @Setup
+    public void setUp() {
+        this.anErrors = new Error[errors];
+        for (int i = 0; i < errors; i++) {
+            this.anErrors[i] = new Error("'field" + i + "' should not be null");
+        }
+    }
+
+    @Benchmark
+    public Notification append() {
+        final var notification = Notification.create();
+        for (final var anError : anErrors) {
+            notification.append(anError);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateCatchingDomainException() {
+        final var notification = Notification.create();
+        for (final var anError : anErrors) {
+            notification.validate(() -> {
+                throw DomainException.with(anError);
+            });
+        }
+        return notification;
+    }
+}
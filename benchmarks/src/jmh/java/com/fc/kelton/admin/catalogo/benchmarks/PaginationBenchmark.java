@@ -0,0 +1,41 @@
+package com.fc.kelton.admin.catalogo.benchmarks;
+
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int perPage;
+
+    private Pagination<Category> aPage;
+
+    @Setup
+    public void setUp() {
+        final var categories = new ArrayList<Category>(perPage);
+        for (int i = 0; i < perPage; i++) {
+            categories.add(Category.newCategory("Category " + i, "Description " + i, i % 2 == 0));
+        }
+        this.aPage = new Pagination<>(0, perPage, perPage * 10L, categories);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> mapToListOutput() {
+        return aPage.map(CategoryListOutput::from);
+    }
+}
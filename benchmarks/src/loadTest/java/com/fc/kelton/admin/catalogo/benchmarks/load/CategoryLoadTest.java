@@ -0,0 +1,218 @@
+package com.fc.kelton.admin.catalogo.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class CategoryLoadTest {
+
+    private static final int SEED_CHUNK = 500;
+    private static final String GET = "get";
+    private static final String LIST = "list";
+    private static final String CREATE = "create";
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final List<String> ids = new ArrayList<>();
+
+    public CategoryLoadTest(final LoadTestSettings settings, final URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.timeout())
+                .build();
+        this.mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        this.stats.put(GET, new EndpointStats());
+        this.stats.put(LIST, new EndpointStats());
+        this.stats.put(CREATE, new EndpointStats());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var settings = LoadTestSettings.fromSystemProperties();
+
+        if (!isVirtualThreadsAvailable()) {
+            System.err.printf(
+                    "WARN: Java %d has no virtual threads; the load generator falls back to a cached pool of platform threads%n",
+                    Runtime.version().feature()
+            );
+        }
+
+        try (final var context = boot()) {
+            final var port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            new CategoryLoadTest(settings, URI.create("http://localhost:" + port)).run();
+        }
+    }
+
+    private static ConfigurableApplicationContext boot() {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.[hibernate.generate_statistics]=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    public void run() throws Exception {
+        seed();
+
+        drive(settings.warmup());
+        stats.values().forEach(EndpointStats::reset);
+
+        final var started = Instant.now();
+        final var elapsed = drive(settings.duration());
+
+        report(started, elapsed);
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        for (int offset = 0; offset < settings.seed(); offset += SEED_CHUNK) {
+            final var chunk = new ArrayList<Map<String, Object>>();
+            for (int i = offset; i < Math.min(settings.seed(), offset + SEED_CHUNK); i++) {
+                chunk.add(Map.of("name", "Category " + i, "description", "Seeded description " + i, "is_active", i % 10 != 0));
+            }
+
+            final var response = client.send(
+                    json("/categories/batch").POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(chunk))).build(),
+                    HttpResponse.BodyHandlers.ofByteArray()
+            );
+
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+
+            for (final var item : mapper.readTree(response.body()).get("items")) {
+                ids.add(item.get("id").asText());
+            }
+        }
+    }
+
+    private Duration drive(final Duration aDuration) throws InterruptedException {
+        final var interval = settings.intervalNanos();
+        final var start = System.nanoTime();
+        final var end = start + aDuration.toNanos();
+
+        final var executor = newExecutor();
+        long sent = 0;
+        for (long intended = start; intended < end; intended = start + (++sent) * interval) {
+            final var wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            final var anIntendedStart = intended;
+            final var anEndpoint = nextEndpoint();
+            executor.execute(() -> call(anEndpoint, anIntendedStart));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(settings.timeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private String nextEndpoint() {
+        final var roll = ThreadLocalRandom.current().nextInt(settings.totalWeight());
+        if (roll < settings.readWeight()) {
+            return GET;
+        }
+        return roll < settings.readWeight() + settings.listWeight() ? LIST : CREATE;
+    }
+
+    private void call(final String anEndpoint, final long anIntendedStart) {
+        final var random = ThreadLocalRandom.current();
+        final var request = switch (anEndpoint) {
+            case GET -> json("/categories/" + ids.get(random.nextInt(ids.size()))).GET().build();
+            case LIST -> json("/categories?perPage=%d&page=%d&sort=name&dir=asc"
+                    .formatted(settings.perPage(), random.nextInt(20))).GET().build();
+            default -> json("/categories").POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"name\":\"Load %d\",\"description\":\"Created under load\",\"is_active\":true}"
+                            .formatted(random.nextInt()))).build();
+        };
+
+        final var actualStart = System.nanoTime();
+        boolean success;
+        try {
+            final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (final IOException ex) {
+            success = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        stats.get(anEndpoint).record(anIntendedStart, actualStart, System.nanoTime(), success);
+    }
+
+    private HttpRequest.Builder json(final String aPath) {
+        return HttpRequest.newBuilder(baseUri.resolve(aPath))
+                .timeout(settings.timeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private void report(final Instant started, final Duration elapsed) throws IOException {
+        final var elapsedSeconds = elapsed.toNanos() / 1_000_000_000.0;
+
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("started_at", started.toString());
+        report.put("target_rate_rps", settings.rate());
+        report.put("duration_s", elapsedSeconds);
+        report.put("seeded", ids.size());
+        report.put("virtual_threads", isVirtualThreadsAvailable());
+
+        final var endpoints = new LinkedHashMap<String, Object>();
+        stats.forEach((name, endpointStats) -> endpoints.put(name, endpointStats.summary(elapsedSeconds)));
+        report.put("endpoints", endpoints);
+
+        final var output = settings.output();
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        mapper.writeValue(output.toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static boolean isVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
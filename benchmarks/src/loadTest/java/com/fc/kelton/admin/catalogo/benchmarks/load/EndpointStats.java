@@ -0,0 +1,56 @@
+package com.fc.kelton.admin.catalogo.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE, SIGNIFICANT_DIGITS);
+    private final Histogram service = new ConcurrentHistogram(HIGHEST_TRACKABLE, SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(final long intendedStart, final long actualStart, final long end, final boolean success) {
+        this.corrected.recordValue(Math.min(end - intendedStart, HIGHEST_TRACKABLE));
+        this.service.recordValue(Math.min(end - actualStart, HIGHEST_TRACKABLE));
+        if (!success) {
+            this.errors.increment();
+        }
+    }
+
+    public void reset() {
+        this.corrected.reset();
+        this.service.reset();
+        this.errors.reset();
+    }
+
+    public Map<String, Object> summary(final double elapsedSeconds) {
+        final var summary = new LinkedHashMap<String, Object>();
+        summary.put("requests", corrected.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughput_rps", corrected.getTotalCount() / elapsedSeconds);
+        summary.put("latency_ms", percentiles(corrected));
+        summary.put("service_time_ms", percentiles(service));
+        return summary;
+    }
+
+    private static Map<String, Double> percentiles(final Histogram aHistogram) {
+        final var percentiles = new LinkedHashMap<String, Double>();
+        percentiles.put("p50", millis(aHistogram.getValueAtPercentile(50.0)));
+        percentiles.put("p99", millis(aHistogram.getValueAtPercentile(99.0)));
+        percentiles.put("p999", millis(aHistogram.getValueAtPercentile(99.9)));
+        percentiles.put("max", millis(aHistogram.getMaxValue()));
+        return percentiles;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
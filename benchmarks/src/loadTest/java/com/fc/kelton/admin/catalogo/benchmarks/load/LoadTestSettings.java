@@ -0,0 +1,41 @@
+package com.fc.kelton.admin.catalogo.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestSettings(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seed,
+        int perPage,
+        int readWeight,
+        int listWeight,
+        int writeWeight,
+        Duration timeout,
+        Path output
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 500),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Integer.getInteger("loadtest.seed", 10_000),
+                Integer.getInteger("loadtest.per-page", 25),
+                Integer.getInteger("loadtest.weight.get", 70),
+                Integer.getInteger("loadtest.weight.list", 25),
+                Integer.getInteger("loadtest.weight.create", 5),
+                Duration.parse(System.getProperty("loadtest.timeout", "PT5S")),
+                Path.of(System.getProperty("loadtest.output", "build/results/loadtest/categories.json"))
+        );
+    }
+
+    public long intervalNanos() {
+        return 1_000_000_000L / rate;
+    }
+
+    public int totalWeight() {
+        return readWeight + listWeight + writeWeight;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fc.kelton.admin.catalogo.domain;
+
+import java.time.Clock;
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator(Clock.systemUTC());
+    }
+}
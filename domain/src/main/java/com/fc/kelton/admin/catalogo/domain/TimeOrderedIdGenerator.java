@@ -0,0 +1,45 @@
+package com.fc.kelton.admin.catalogo.domain;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    public TimeOrderedIdGenerator(final Clock aClock) {
+        this.clock = Objects.requireNonNull(aClock);
+    }
+
+    @Override
+    public UUID generate() {
+        final var stamp = nextStamp();
+
+        final var mostSigBits = ((stamp >>> SEQUENCE_BITS) << 16) | VERSION | (stamp & SEQUENCE_MASK);
+        final var leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextStamp() {
+        while (true) {
+            final var previous = this.lastStamp.get();
+            final var now = this.clock.millis() << SEQUENCE_BITS;
+            final var next = now > previous ? now : previous + 1;
+
+            if (this.lastStamp.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
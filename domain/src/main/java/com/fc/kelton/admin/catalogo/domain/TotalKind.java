@@ -0,0 +1,16 @@
+package com.fc.kelton.admin.catalogo.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TotalKind {
+    EXACT,
+    ESTIMATED,
+    SKIPPED;
+
+    public static Optional<TotalKind> of(final String aLabel) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aLabel))
+                .findFirst();
+    }
+}
@@ -1,6 +1,7 @@
 package com.fc.kelton.admin.catalogo.domain.category;
 
 import com.fc.kelton.admin.catalogo.domain.AggregateRoot;
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
 import com.fc.kelton.admin.catalogo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
@@ -15,6 +16,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private final Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final long version;
 
     private Category(
             final CategoryID anId,
@@ -23,7 +25,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -32,13 +35,23 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreatedAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdatedAt, "'updatedAt' should not be null");
         this.deletedAt = aDeletedAt;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
-        final var id = CategoryID.unique();
+        return newCategory(IdGenerator.random(), aName, aDescription, isActive);
+    }
+
+    public static Category newCategory(
+            final IdGenerator aGenerator,
+            final String aName,
+            final String aDescription,
+            final boolean isActive
+    ) {
+        final var id = CategoryID.unique(aGenerator);
         final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        return new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0L);
     }
 
     public static Category with(
@@ -48,7 +61,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 anId,
@@ -57,7 +71,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -130,6 +145,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
 
     @Override
     public Category clone() {
@@ -2,17 +2,29 @@ package com.fc.kelton.admin.catalogo.domain.category;
 
 import com.fc.kelton.admin.catalogo.domain.Pagination;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
+    int deleteAllById(List<CategoryID> anIds);
+
     Optional<Category> findById(CategoryID anId);
 
+    List<Category> findAllByIds(Collection<CategoryID> anIds);
+
     Category update(Category aCategory);
 
+    int patch(CategoryPatch aPatch);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    Pagination<CategorySummary> findSummaries(CategorySearchQuery aQuery);
 }
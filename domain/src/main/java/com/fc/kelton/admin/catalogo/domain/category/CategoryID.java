@@ -1,5 +1,6 @@
 package com.fc.kelton.admin.catalogo.domain.category;
 
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
 import com.fc.kelton.admin.catalogo.domain.Identifier;
 
 import java.util.Objects;
@@ -18,6 +19,10 @@ public class CategoryID extends Identifier {
         return CategoryID.from(UUID.randomUUID());
     }
 
+    public static CategoryID unique(final IdGenerator aGenerator) {
+        return CategoryID.from(aGenerator.generate());
+    }
+
     public static CategoryID from(final String anId) {
         return new CategoryID(anId);
     }
@@ -0,0 +1,76 @@
+package com.fc.kelton.admin.catalogo.domain.category;
+
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import com.fc.kelton.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Set;
+
+public record CategoryPatch(
+        CategoryID id,
+        Instant expectedUpdatedAt,
+        Instant updatedAt,
+        Set<Field> fields,
+        String name,
+        String description,
+        boolean active,
+        Long expectedVersion
+) {
+
+    public enum Field {
+        NAME,
+        DESCRIPTION,
+        ACTIVE
+    }
+
+    public CategoryPatch {
+        Objects.requireNonNull(id, "'id' should not be null");
+        Objects.requireNonNull(updatedAt, "'updatedAt' should not be null");
+        fields = Set.copyOf(Objects.requireNonNull(fields, "'fields' should not be null"));
+    }
+
+    public static CategoryPatch with(
+            final CategoryID anId,
+            final Instant anExpectedUpdatedAt,
+            final Set<Field> aFields,
+            final String aName,
+            final String aDescription,
+            final boolean isActive
+    ) {
+        return with(anId, anExpectedUpdatedAt, aFields, aName, aDescription, isActive, null);
+    }
+
+    public static CategoryPatch with(
+            final CategoryID anId,
+            final Instant anExpectedUpdatedAt,
+            final Set<Field> aFields,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Long anExpectedVersion
+    ) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return new CategoryPatch(anId, anExpectedUpdatedAt, now, aFields, aName, aDescription, isActive, anExpectedVersion);
+    }
+
+    public boolean isConditional() {
+        return this.expectedUpdatedAt != null || this.expectedVersion != null;
+    }
+
+    public boolean changes(final Field aField) {
+        return this.fields.contains(aField);
+    }
+
+    public void validate(final ValidationHandler aHandler) {
+        if (this.fields.isEmpty()) {
+            aHandler.append(new Error("'patch' should change at least one field"));
+            return;
+        }
+
+        if (changes(Field.NAME)) {
+            CategoryValidator.checkName(this.name, aHandler);
+        }
+    }
+}
@@ -1,10 +1,78 @@
 package com.fc.kelton.admin.catalogo.domain.category;
 
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
+
+import java.util.Set;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        TotalKind total,
+        Set<CategorySummary.Field> fields,
+        Boolean active
 ) {
+
+    public CategorySearchQuery {
+        total = total == null ? TotalKind.EXACT : total;
+        fields = fields == null ? CategorySummary.Field.ALL : Set.copyOf(fields);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final TotalKind total,
+            final Set<CategorySummary.Field> fields
+    ) {
+        this(page, perPage, terms, sort, direction, after, total, fields, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final TotalKind total
+    ) {
+        this(page, perPage, terms, sort, direction, after, total, null, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, TotalKind.EXACT, null, null);
+    }
+
+    public CategorySearchQuery withAllFields() {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, after, total, null, active);
+    }
+
+    public boolean includes(final CategorySummary.Field aField) {
+        return fields.contains(aField);
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    public boolean hasActiveFilter() {
+        return active != null;
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
 }
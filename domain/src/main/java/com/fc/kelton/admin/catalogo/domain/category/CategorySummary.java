@@ -0,0 +1,63 @@
+package com.fc.kelton.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+public record CategorySummary(
+        CategoryID id,
+        String name,
+        String description,
+        Boolean isActive,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        long version
+) {
+
+    public enum Field {
+        NAME,
+        DESCRIPTION,
+        ACTIVE,
+        CREATED_AT,
+        UPDATED_AT,
+        DELETED_AT;
+
+        public static final Set<Field> ALL = Set.copyOf(EnumSet.allOf(Field.class));
+    }
+
+    public CategorySummary {
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public CategorySummary(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Instant aCreatedAt,
+            final Instant aUpdatedAt,
+            final Instant aDeletedAt,
+            final long aVersion
+    ) {
+        this(CategoryID.from(anId), aName, aDescription, isActive, aCreatedAt, aUpdatedAt, aDeletedAt, aVersion);
+    }
+
+    public static CategorySummary from(final Category aCategory) {
+        return new CategorySummary(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
+        );
+    }
+
+    public Category toAggregate() {
+        return Category.with(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+}
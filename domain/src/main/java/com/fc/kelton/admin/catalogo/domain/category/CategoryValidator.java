@@ -21,20 +21,23 @@ public class CategoryValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        final var name = this.category.getName();
+        checkName(this.category.getName(), this.validationHandler());
+    }
+
+    static void checkName(final String name, final ValidationHandler aHandler) {
         if (name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            aHandler.append(new Error("'name' should not be null"));
             return;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            aHandler.append(new Error("'name' should not be empty"));
             return;
         }
 
         final int length = name.trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGHT) {
-            this.validationHandler().append(new Error("'name' must between 3 and 255"));
+            aHandler.append(new Error("'name' must between 3 and 255"));
         }
     }
 }
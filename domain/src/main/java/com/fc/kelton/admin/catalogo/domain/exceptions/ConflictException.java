@@ -0,0 +1,26 @@
+package com.fc.kelton.admin.catalogo.domain.exceptions;
+
+import com.fc.kelton.admin.catalogo.domain.AggregateRoot;
+import com.fc.kelton.admin.catalogo.domain.Identifier;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was modified by another request".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue()
+        );
+        return new ConflictException(anError, Collections.emptyList());
+    }
+}
@@ -0,0 +1,17 @@
+package com.fc.kelton.admin.catalogo.domain.exceptions;
+
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class UnavailableException extends DomainException {
+
+    protected UnavailableException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static UnavailableException with(final String aMessage) {
+        return new UnavailableException(aMessage, Collections.emptyList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.fc.kelton.admin.catalogo.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+public class TimeOrderedIdGeneratorTest {
+
+    @Test
+    public void givenAClock_whenCallsGenerate_shouldReturnAVersion7UuidCarryingTheTimestamp() {
+        final var expectedInstant = Instant.parse("2024-01-01T10:00:00.123Z");
+        final var aGenerator = new TimeOrderedIdGenerator(Clock.fixed(expectedInstant, ZoneOffset.UTC));
+
+        final var actualId = aGenerator.generate();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(expectedInstant.toEpochMilli(), actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenAFrozenClock_whenCallsGenerateRepeatedly_shouldKeepIdsStrictlyIncreasing() {
+        final var aGenerator = new TimeOrderedIdGenerator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+        var previous = aGenerator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            final var actual = aGenerator.generate();
+            Assertions.assertTrue(actual.toString().compareTo(previous.toString()) > 0);
+            previous = actual;
+        }
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsGenerate_shouldNeverRepeatAnId() throws Exception {
+        final var expectedIds = 8 * 5_000;
+        final var aGenerator = IdGenerator.timeOrdered();
+        final Set<UUID> actualIds = ConcurrentHashMap.newKeySet();
+        final var start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 5_000; i++) {
+                    actualIds.add(aGenerator.generate());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(expectedIds, actualIds.size());
+    }
+}
@@ -0,0 +1,59 @@
+package com.fc.kelton.admin.catalogo.domain.category;
+
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class CategoryPatchTest {
+
+    @Test
+    public void givenAMaskWithoutName_whenCallsValidate_thenIgnoreTheNullName() {
+        final var aPatch = CategoryPatch.with(
+                CategoryID.from("123"),
+                null,
+                Set.of(CategoryPatch.Field.DESCRIPTION),
+                null,
+                "Nova descricao",
+                true
+        );
+
+        Assertions.assertDoesNotThrow(() -> aPatch.validate(new ThrowsValidationHandler()));
+        Assertions.assertTrue(aPatch.changes(CategoryPatch.Field.DESCRIPTION));
+        Assertions.assertFalse(aPatch.changes(CategoryPatch.Field.NAME));
+        Assertions.assertNotNull(aPatch.updatedAt());
+    }
+
+    @Test
+    public void givenAMaskWithAnInvalidName_whenCallsValidate_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'name' must between 3 and 255";
+
+        final var aPatch = CategoryPatch.with(
+                CategoryID.from("123"),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Fi ",
+                null,
+                true
+        );
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> aPatch.validate(new ThrowsValidationHandler()));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnEmptyMask_whenCallsValidate_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'patch' should change at least one field";
+
+        final var aPatch = CategoryPatch.with(CategoryID.from("123"), null, Set.of(), null, null, true);
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> aPatch.validate(new ThrowsValidationHandler()));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
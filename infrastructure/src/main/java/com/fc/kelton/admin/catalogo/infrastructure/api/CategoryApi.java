@@ -1,6 +1,8 @@
 package com.fc.kelton.admin.catalogo.infrastructure.api;
 
-import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoriesByIdsApiOutput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryApiOutput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.CreateCategoryApiInput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.UpdateCategoryApiInput;
@@ -8,11 +10,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryApi {
@@ -29,20 +36,51 @@ public interface CategoryApi {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryApiInput input);
 
-    @GetMapping
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every category was created"),
+            @ApiResponse(responseCode = "207", description = "Some categories were rejected"),
+            @ApiResponse(responseCode = "422", description = "Every category was rejected"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryApiInput> input);
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<?> listCategories(
+    void listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
-            @RequestParam(name = "perPage", required = false, defaultValue = "0") final int perPage,
-            @RequestParam(name = "sort", required = false, defaultValue = "") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "") final String direction
-    );
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "fields", required = false) final String fields,
+            @RequestParam(name = "active", required = false) final Boolean active,
+            final HttpServletResponse response
+    ) throws IOException;
+
+    @GetMapping(
+            params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get every category in a set of identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CategoriesByIdsApiOutput getByIds(@RequestParam(name = "ids") List<String> ids);
 
     @GetMapping(
             value = "{id}",
@@ -52,10 +90,14 @@ public interface CategoryApi {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryApiOutput getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryApiOutput> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "{id}",
@@ -66,9 +108,35 @@ public interface CategoryApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "Category was modified by another request"),
+            @ApiResponse(responseCode = "412", description = "Category no longer matches the given ETag"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCategoryApiInput input
+    );
+
+    @PatchMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Change only the given fields of a category")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category patched successfully"),
+            @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "Category was modified since 'updated_at'"),
+            @ApiResponse(responseCode = "412", description = "Category no longer matches the given ETag"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryApiInput input);
+    ResponseEntity<?> patchById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode input
+    );
 
     @DeleteMapping(
             value = "{id}",
@@ -84,4 +152,13 @@ public interface CategoryApi {
     })
     void deleteById(@PathVariable(name = "id") String id);
 
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete every category in a set of identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    DeleteCategoriesOutput deleteByIds(@RequestParam(name = "ids") List<String> ids);
+
 }
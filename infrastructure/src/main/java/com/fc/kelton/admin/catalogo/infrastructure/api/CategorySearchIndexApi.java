@@ -0,0 +1,40 @@
+package com.fc.kelton.admin.catalogo.infrastructure.api;
+
+import com.fc.kelton.admin.catalogo.infrastructure.category.search.CategorySearchIndexReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@RequestMapping(value = "categories/search-index")
+@Tag(name = "Categories")
+public interface CategorySearchIndexApi {
+
+    @PostMapping(value = "rebuild")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Rebuild the in-memory category search index from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Index rebuilt successfully"),
+            @ApiResponse(responseCode = "422", description = "The search index is disabled"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void rebuild();
+
+    @GetMapping(
+            value = "consistency",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Compare the in-memory category search index against the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consistency checked successfully"),
+            @ApiResponse(responseCode = "422", description = "The search index is disabled"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CategorySearchIndexReport consistency();
+}
@@ -1,25 +1,55 @@
 package com.fc.kelton.admin.catalogo.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesCommand;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesCommand;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsCommand;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryCommand;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryOutput;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryUseCase;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryUseCase;
-import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
 import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
 import com.fc.kelton.admin.catalogo.infrastructure.api.CategoryApi;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoriesByIdsApiOutput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryApiOutput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryListApiOutput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.CreateCategoryApiInput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.PatchCategoryApiInput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.UpdateCategoryApiInput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fc.kelton.admin.catalogo.infrastructure.utils.ETagUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 @RestController
@@ -27,19 +57,37 @@ public class CategoryController implements CategoryApi {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
+    private final ObjectMapper objectMapper;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
-            final DeleteCategoryUseCase deleteCategoryUseCase
+            final DeleteCategoryUseCase deleteCategoryUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            final DeleteCategoriesUseCase deleteCategoriesUseCase,
+            final PatchCategoryUseCase patchCategoryUseCase,
+            final ObjectMapper objectMapper
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
     }
 
     @Override
@@ -61,35 +109,176 @@ public class CategoryController implements CategoryApi {
     }
 
     @Override
-    public Pagination<?> listCategories(String search, int page, int perPage, String sort, String direction) {
-        return null;
+    public ResponseEntity<?> createCategories(final List<CreateCategoryApiInput> input) {
+        final var aCommand = CreateCategoriesCommand.with(input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList());
+
+        final var output = this.createCategoriesUseCase.execute(aCommand);
+
+        if (output.rejected() == 0) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(output);
+        }
+        if (output.created() == 0) {
+            return ResponseEntity.unprocessableEntity().body(output);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(output);
+    }
+
+    @Override
+    public void listCategories(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String after,
+            final String total,
+            final String fields,
+            final Boolean active,
+            final HttpServletResponse response
+    ) throws IOException {
+        final var aTotal = TotalKind.of(total)
+                .orElseThrow(() -> DomainException.with(new Error("'total' must be one of exact, estimated or skipped")));
+        final var aFields = CategoryListApiOutput.fieldsOf(fields);
+
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction, after, aTotal, aFields, active);
+
+        final var aPage = this.listCategoriesUseCase.execute(aQuery);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (final var generator = this.objectMapper.createGenerator(response.getOutputStream())) {
+            CategoryApiPresenter.present(aPage, aQuery.fields(), generator);
+        }
     }
 
     @Override
-    public CategoryApiOutput getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public CategoriesByIdsApiOutput getByIds(final List<String> ids) {
+        return CategoryApiPresenter.present(this.getCategoriesByIdsUseCase.execute(GetCategoriesByIdsCommand.with(ids)));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryApiInput input) {
+    public ResponseEntity<CategoryApiOutput> getById(final String id, final String ifNoneMatch) {
+        final var aCategory = this.getCategoryByIdUseCase.execute(id);
+        final var anETag = ETagUtils.strong(aCategory.version());
+
+        if (!ETagUtils.noneMatch(ifNoneMatch, aCategory.version())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(anETag)
+                .body(CategoryApiPresenter.present(aCategory));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryApiInput input) {
+        final Long anExpectedVersion;
+        if (ETagUtils.unconditional(ifMatch)) {
+            anExpectedVersion = null;
+        } else {
+            final var aVersion = expectedVersion(id, ETagUtils.versions(ifMatch));
+            if (aVersion.isEmpty()) {
+                return preconditionFailed(ConflictException.with(Category.class, CategoryID.from(id)));
+            }
+            anExpectedVersion = aVersion.get();
+        }
+
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                anExpectedVersion
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.ok().eTag(ETagUtils.strong(output.version())).body(output);
 
-        return this.updateCategoryUseCase.execute(aCommand)
-                .fold(onError, onSuccess);
+        try {
+            return this.updateCategoryUseCase.execute(aCommand)
+                    .fold(onError, onSuccess);
+        } catch (final ConflictException ex) {
+            if (anExpectedVersion == null) {
+                throw ex;
+            }
+            return preconditionFailed(ex);
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> patchById(final String id, final String ifMatch, final JsonNode input) {
+        final Long anExpectedVersion;
+        if (ETagUtils.unconditional(ifMatch)) {
+            anExpectedVersion = null;
+        } else {
+            final var aVersion = expectedVersion(id, ETagUtils.versions(ifMatch));
+            if (aVersion.isEmpty()) {
+                return preconditionFailed(ConflictException.with(Category.class, CategoryID.from(id)));
+            }
+            anExpectedVersion = aVersion.get();
+        }
+
+        final var aPatch = PatchCategoryApiInput.from(input);
+        final var aCommand = PatchCategoryCommand.with(
+                id,
+                aPatch.updatedAt(),
+                aPatch.fields(),
+                aPatch.name(),
+                aPatch.description(),
+                aPatch.active(),
+                anExpectedVersion
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<PatchCategoryOutput, ResponseEntity<?>> onSuccess = output -> anExpectedVersion != null
+                ? ResponseEntity.ok().eTag(ETagUtils.strong(anExpectedVersion + 1)).body(CategoryApiPresenter.present(output))
+                : ResponseEntity.ok(CategoryApiPresenter.present(output));
+
+        try {
+            return this.patchCategoryUseCase.execute(aCommand)
+                    .fold(onError, onSuccess);
+        } catch (final ConflictException ex) {
+            if (anExpectedVersion == null) {
+                throw ex;
+            }
+            return preconditionFailed(ex);
+        }
     }
 
     @Override
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
+
+    @Override
+    public DeleteCategoriesOutput deleteByIds(final List<String> ids) {
+        return this.deleteCategoriesUseCase.execute(DeleteCategoriesCommand.with(ids));
+    }
+
+    private Optional<Long> expectedVersion(final String id, final List<Long> aVersions) {
+        if (aVersions.size() <= 1) {
+            return aVersions.stream().findFirst();
+        }
+
+        final var aCurrentVersion = this.getCategoryByIdUseCase.execute(id).version();
+        return aVersions.contains(aCurrentVersion) ? Optional.of(aCurrentVersion) : Optional.empty();
+    }
+
+    private static ResponseEntity<?> preconditionFailed(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(GlobalExceptionHandler.ApiError.from(ex));
+    }
 }
@@ -0,0 +1,28 @@
+package com.fc.kelton.admin.catalogo.infrastructure.api.controllers;
+
+import com.fc.kelton.admin.catalogo.infrastructure.api.CategorySearchIndexApi;
+import com.fc.kelton.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fc.kelton.admin.catalogo.infrastructure.category.search.CategorySearchIndexReport;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class CategorySearchIndexController implements CategorySearchIndexApi {
+
+    private final CategorySearchIndex categorySearchIndex;
+
+    public CategorySearchIndexController(final CategorySearchIndex categorySearchIndex) {
+        this.categorySearchIndex = Objects.requireNonNull(categorySearchIndex);
+    }
+
+    @Override
+    public void rebuild() {
+        this.categorySearchIndex.rebuild();
+    }
+
+    @Override
+    public CategorySearchIndexReport consistency() {
+        return this.categorySearchIndex.check();
+    }
+}
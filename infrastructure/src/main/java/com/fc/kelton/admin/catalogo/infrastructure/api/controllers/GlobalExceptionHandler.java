@@ -1,9 +1,13 @@
 package com.fc.kelton.admin.catalogo.infrastructure.api.controllers;
 
 
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,6 +23,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = UnavailableException.class)
+    public ResponseEntity<?> handleUnavailableException(final UnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = TransientDataAccessResourceException.class)
+    public ResponseEntity<?> handleTransientDataAccessResourceException(final TransientDataAccessResourceException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity()
@@ -0,0 +1,224 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence.DataSourceRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final Cache<CategoryID, Optional<Category>> categoriesById;
+    private final Cache<ListingKey, Pagination<Category>> firstPages;
+    private final Cache<ListingKey, Pagination<CategorySummary>> firstSummaryPages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final long maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl,
+            final long listingMaximumSize,
+            final Duration listingTtl
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoriesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<CategoryID, Optional<Category>>writing(
+                        (anId, aCategory) -> aCategory.isPresent() ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(listingMaximumSize)
+                .expireAfterWrite(listingTtl)
+                .recordStats()
+                .build();
+        this.firstSummaryPages = Caffeine.newBuilder()
+                .maximumSize(listingMaximumSize)
+                .expireAfterWrite(listingTtl)
+                .recordStats()
+                .build();
+    }
+
+    public CachedCategoryGateway bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.categoriesById, "categories.by-id");
+        CaffeineCacheMetrics.monitor(registry, this.firstPages, "categories.first-pages");
+        CaffeineCacheMetrics.monitor(registry, this.firstSummaryPages, "categories.first-summary-pages");
+        return this;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.categoryGateway.create(aCategory);
+        this.categoriesById.invalidate(created.getId());
+        this.generation.incrementAndGet();
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.categoryGateway.createAll(aCategories);
+        this.categoriesById.invalidateAll(created.stream().map(Category::getId).toList());
+        this.generation.incrementAndGet();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.categoryGateway.deleteById(anId);
+        this.categoriesById.invalidate(anId);
+        this.generation.incrementAndGet();
+    }
+
+    @Override
+    public int deleteAllById(final List<CategoryID> anIds) {
+        final var deleted = this.categoryGateway.deleteAllById(anIds);
+        this.categoriesById.invalidateAll(anIds);
+        this.generation.incrementAndGet();
+        return deleted;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (!fillable()) {
+            final var cached = this.categoriesById.getIfPresent(anId);
+            return cached != null
+                    ? cached.map(Category::clone)
+                    : this.categoryGateway.findById(anId);
+        }
+
+        return this.categoriesById.get(anId, this.categoryGateway::findById)
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        if (!fillable()) {
+            final var cached = this.categoriesById.getAllPresent(anIds);
+            final var missing = anIds.stream().filter(anId -> !cached.containsKey(anId)).distinct().toList();
+            final var loaded = missing.isEmpty() ? List.<Category>of() : this.categoryGateway.findAllByIds(missing);
+            return Stream.concat(
+                    cached.values().stream().flatMap(Optional::stream).map(Category::clone),
+                    loaded.stream()
+            ).toList();
+        }
+
+        return this.categoriesById.getAll(anIds, this::loadAll).values().stream()
+                .flatMap(Optional::stream)
+                .map(Category::clone)
+                .toList();
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.categoryGateway.update(aCategory);
+        this.categoriesById.invalidate(updated.getId());
+        this.generation.incrementAndGet();
+        return updated;
+    }
+
+    @Override
+    public int patch(final CategoryPatch aPatch) {
+        final var rows = this.categoryGateway.patch(aPatch);
+        this.categoriesById.invalidate(aPatch.id());
+        this.generation.incrementAndGet();
+        return rows;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (aQuery.page() != 0 || aQuery.hasCursor()) {
+            return this.categoryGateway.findAll(aQuery);
+        }
+
+        final var aKey = ListingKey.from(this.generation.get(), aQuery);
+        if (!fillable()) {
+            final var cached = this.firstPages.getIfPresent(aKey);
+            return cached != null
+                    ? cached.map(Category::clone)
+                    : this.categoryGateway.findAll(aQuery);
+        }
+
+        return this.firstPages.get(aKey, key -> this.categoryGateway.findAll(aQuery))
+                .map(Category::clone);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        if (aQuery.page() != 0 || aQuery.hasCursor()) {
+            return this.categoryGateway.findSummaries(aQuery);
+        }
+
+        final var aKey = ListingKey.from(this.generation.get(), aQuery);
+        if (!fillable()) {
+            final var cached = this.firstSummaryPages.getIfPresent(aKey);
+            return cached != null
+                    ? cached
+                    : this.categoryGateway.findSummaries(aQuery);
+        }
+
+        return this.firstSummaryPages.get(aKey, key -> this.categoryGateway.findSummaries(aQuery));
+    }
+
+    private static boolean fillable() {
+        return DataSourceRouting.current() == DataSourceRouting.Route.PRIMARY;
+    }
+
+    private Map<CategoryID, Optional<Category>> loadAll(final Set<? extends CategoryID> anIds) {
+        final var loaded = new HashMap<CategoryID, Optional<Category>>();
+        this.categoryGateway.findAllByIds(List.copyOf(anIds))
+                .forEach(aCategory -> loaded.put(aCategory.getId(), Optional.of(aCategory)));
+        anIds.forEach(anId -> loaded.putIfAbsent(anId, Optional.empty()));
+        return loaded;
+    }
+
+    private record ListingKey(
+            long generation,
+            String terms,
+            String sort,
+            String direction,
+            int perPage,
+            TotalKind total,
+            Set<CategorySummary.Field> fields,
+            Boolean active
+    ) {
+
+        static ListingKey from(final long aGeneration, final CategorySearchQuery aQuery) {
+            final var terms = aQuery.hasTerms()
+                    ? aQuery.terms().toLowerCase(Locale.ROOT)
+                    : "";
+            return new ListingKey(
+                    aGeneration,
+                    terms,
+                    aQuery.sort(),
+                    aQuery.direction().toLowerCase(Locale.ROOT),
+                    aQuery.perPage(),
+                    aQuery.total(),
+                    aQuery.fields(),
+                    aQuery.active()
+            );
+        }
+    }
+}
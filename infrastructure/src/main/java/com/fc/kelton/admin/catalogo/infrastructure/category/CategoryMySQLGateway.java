@@ -1,63 +1,276 @@
 package com.fc.kelton.admin.catalogo.infrastructure.category;
 
 import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
 import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryCursor;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryIdConverter;
 import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
+import com.fc.kelton.admin.catalogo.infrastructure.category.search.CategorySearchHits;
+import com.fc.kelton.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.fc.kelton.admin.catalogo.infrastructure.utils.SpecificationUtils.equal;
+import static com.fc.kelton.admin.catalogo.infrastructure.utils.SpecificationUtils.fullTextQuery;
 import static com.fc.kelton.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.fc.kelton.admin.catalogo.infrastructure.utils.SpecificationUtils.matchAgainst;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String RELEVANCE = "relevance";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
     private final CategoryRepository categoryRepository;
+    private final boolean fullTextSearch;
+    private final CategorySearchIndex searchIndex;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            @Value("${categories.search.full-text:false}") final boolean fullTextSearch,
+            final CategorySearchIndex searchIndex
+    ) {
         this.categoryRepository = categoryRepository;
+        this.fullTextSearch = fullTextSearch;
+        this.searchIndex = searchIndex;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var created = this.categoryRepository.save(CategoryJpaEntity.newEntity(aCategory)).toAggregate();
+        this.searchIndex.index(created);
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream()
+                .map(CategoryJpaEntity::newEntity)
+                .toList();
+
+        this.categoryRepository.insertAll(entities);
+
+        final var created = entities.stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        created.forEach(this.searchIndex::index);
+        return created;
     }
 
     @Override
     public void deleteById(final CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (this.categoryRepository.existsById(anIdValue)) {
-            this.categoryRepository.deleteById(anIdValue);
-        }
+        deleteAllById(List.of(anId));
+    }
+
+    @Override
+    public int deleteAllById(final List<CategoryID> anIds) {
+        final var anIdValues = anIds.stream()
+                .map(CategoryID::getValue)
+                .filter(CategoryIdConverter::isValid)
+                .toList();
+
+        final var deleted = anIdValues.isEmpty() ? 0 : this.categoryRepository.deleteByIds(anIdValues);
+        anIds.forEach(this.searchIndex::remove);
+        return deleted;
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
+        if (!CategoryIdConverter.isValid(anId.getValue())) {
+            return Optional.empty();
+        }
         return this.categoryRepository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var anIdValues = anIds.stream()
+                .map(CategoryID::getValue)
+                .filter(CategoryIdConverter::isValid)
+                .distinct()
+                .toList();
+
+        final var found = new ArrayList<Category>(anIdValues.size());
+        for (int from = 0; from < anIdValues.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var aChunk = anIdValues.subList(from, Math.min(anIdValues.size(), from + IN_CLAUSE_CHUNK_SIZE));
+            this.categoryRepository.findAllById(aChunk).stream()
+                    .map(CategoryJpaEntity::toAggregate)
+                    .forEach(found::add);
+        }
+        return found;
+    }
+
     @Override
     public Category update(final Category aCategory) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final Category updated;
+        try {
+            updated = this.categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw ConflictException.with(Category.class, aCategory.getId());
+        }
+        this.searchIndex.index(updated);
+        return updated;
+    }
+
+    @Override
+    public int patch(final CategoryPatch aPatch) {
+        if (!CategoryIdConverter.isValid(aPatch.id().getValue())) {
+            return 0;
+        }
+        final var rows = this.categoryRepository.patch(aPatch);
+        if (rows > 0) {
+            this.searchIndex.patch(aPatch);
+        }
+        return rows;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        return findSummaries(aQuery.withAllFields()).map(CategorySummary::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        final var perPage = aQuery.perPage();
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var byRelevance = RELEVANCE.equals(aQuery.sort());
+        final var offset = aQuery.hasCursor() ? 0 : aQuery.page() * perPage;
+        final var fields = columnsOf(aQuery);
+
+        if (aQuery.hasTerms() && !aQuery.hasActiveFilter() && this.searchIndex.isReady()) {
+            final var after = aQuery.hasCursor() ? cursorOf(aQuery, direction) : null;
+            final var hits = this.searchIndex.search(aQuery.terms(), aQuery.sort(), direction, after, offset, perPage + 1);
+            if (hits.isPresent()) {
+                return fromIndex(aQuery, direction, fields, hits.get());
+            }
+        }
+
+        final var fullTextQuery = this.fullTextSearch
+                ? fullTextQuery(aQuery.terms())
+                : Optional.<String>empty();
+
+        final var sort = byRelevance && fullTextQuery.isPresent()
+                ? Sort.by("id")
+                : Sort.by(direction, byRelevance ? "name" : aQuery.sort(), "id");
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
+        final var specifications = fullTextQuery
+                .map(terms -> fullTextClause(terms, byRelevance))
+                .orElseGet(() -> likeClause(aQuery.terms()));
+
+        final var whereClause = Specification.where(specifications).and(activeClause(aQuery.active()));
+        final var seekClause = aQuery.hasCursor()
+                ? whereClause.and(cursorOf(aQuery, direction).toSpecification())
+                : whereClause;
+
+        final var rows = this.categoryRepository.findSummarySlice(seekClause, sort, offset, perPage + 1, fields);
+
+        final var hasNext = rows.size() > perPage;
+        final var items = hasNext ? rows.subList(0, perPage) : rows;
+        final var nextCursor = nextCursor(aQuery, direction, hasNext, items);
+
+        final var total = aQuery.total();
+
+        if (total == TotalKind.SKIPPED) {
+            return new Pagination<>(aQuery.page(), perPage, Pagination.UNKNOWN_TOTAL, TotalKind.SKIPPED, items, hasNext, nextCursor);
+        }
+
+        if (total == TotalKind.ESTIMATED && !aQuery.hasTerms() && !aQuery.hasActiveFilter()) {
+            final var estimate = this.categoryRepository.estimateCount();
+            if (estimate.isPresent()) {
+                return new Pagination<>(aQuery.page(), perPage, estimate.getAsLong(), TotalKind.ESTIMATED, items, hasNext, nextCursor);
+            }
+        }
+
+        final var exactTotal = !aQuery.hasCursor() && !hasNext && (offset == 0 || !items.isEmpty())
+                ? offset + items.size()
+                : this.categoryRepository.count(whereClause);
+
+        return new Pagination<>(aQuery.page(), perPage, exactTotal, TotalKind.EXACT, items, hasNext, nextCursor);
+    }
+
+    private Pagination<CategorySummary> fromIndex(
+            final CategorySearchQuery aQuery,
+            final Sort.Direction direction,
+            final Set<CategorySummary.Field> fields,
+            final CategorySearchHits hits
+    ) {
+        final var perPage = aQuery.perPage();
+        final var hasNext = hits.ids().size() > perPage;
+        final var ids = hasNext ? hits.ids().subList(0, perPage) : hits.ids();
+
+        final var byId = this.categoryRepository.findSummariesById(ids, fields).stream()
+                .collect(Collectors.toMap(summary -> summary.id().getValue(), Function.identity()));
+
+        final var items = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        final var nextCursor = nextCursor(aQuery, direction, hasNext, items);
+
+        return new Pagination<>(aQuery.page(), perPage, hits.total(), TotalKind.EXACT, items, hasNext, nextCursor);
+    }
+
+    private static Set<CategorySummary.Field> columnsOf(final CategorySearchQuery aQuery) {
+        final var sortKey = switch (aQuery.sort()) {
+            case "createdAt" -> CategorySummary.Field.CREATED_AT;
+            case "updatedAt" -> CategorySummary.Field.UPDATED_AT;
+            default -> CategorySummary.Field.NAME;
+        };
+        if (aQuery.includes(sortKey)) {
+            return aQuery.fields();
+        }
+        final var columns = EnumSet.of(sortKey);
+        columns.addAll(aQuery.fields());
+        return columns;
+    }
+
+    private static String nextCursor(
+            final CategorySearchQuery aQuery,
+            final Sort.Direction direction,
+            final boolean hasNext,
+            final List<CategorySummary> items
+    ) {
+        if (!hasNext || items.isEmpty() || !CategoryCursor.supports(aQuery.sort())) {
+            return null;
+        }
+        return CategoryCursor.from(aQuery.sort(), direction, items.get(items.size() - 1)).encode();
+    }
+
+    private static Specification<CategoryJpaEntity> fullTextClause(final String terms, final boolean byRelevance) {
+        return matchAgainst("name", "description", terms, byRelevance);
+    }
+
+    private static Specification<CategoryJpaEntity> likeClause(final String terms) {
+        return Optional.ofNullable(terms)
                 .filter(str -> !str.isBlank())
                 .map(str -> {
                     final Specification<CategoryJpaEntity> nameLike = like("name", str);
@@ -65,15 +278,17 @@ public class CategoryMySQLGateway implements CategoryGateway {
                     return nameLike.or(descriptionLike);
                 })
                 .orElse(null);
+    }
 
-        final var pageResult =
-                this.categoryRepository.findAll(Specification.where(specifications), page);
+    private static Specification<CategoryJpaEntity> activeClause(final Boolean active) {
+        return active != null ? equal("active", active) : null;
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+    private static CategoryCursor cursorOf(final CategorySearchQuery aQuery, final Sort.Direction direction) {
+        final var aCursor = CategoryCursor.decode(aQuery.after());
+        if (!aCursor.matches(aQuery.sort(), direction)) {
+            throw DomainException.with(new Error("'after' cursor does not match the requested sort"));
+        }
+        return aCursor;
     }
 }
@@ -0,0 +1,265 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence.DataSourceRouting;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CoalescingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final Map<Flight, CompletableFuture<Optional<Category>>> flights;
+    private final Map<DataSourceRouting.Route, Batch> batches;
+    private final LongAdder coalesced;
+
+    public CoalescingCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final Duration batchWindow,
+            final int maxBatchSize
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("'maxBatchSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.flights = new ConcurrentHashMap<>();
+        this.batches = new ConcurrentHashMap<>();
+        this.coalesced = new LongAdder();
+    }
+
+    public CoalescingCategoryGateway bindTo(final MeterRegistry registry) {
+        Gauge.builder("categories.gateway.lookups.in-flight", this.flights, Map::size)
+                .register(registry);
+        FunctionCounter.builder("categories.gateway.lookups.coalesced", this.coalesced, LongAdder::sum)
+                .register(registry);
+        return this;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.categoryGateway.create(aCategory);
+        forget(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.categoryGateway.createAll(aCategories);
+        created.forEach(aCategory -> forget(aCategory.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.categoryGateway.deleteById(anId);
+        forget(anId);
+    }
+
+    @Override
+    public int deleteAllById(final List<CategoryID> anIds) {
+        final var deleted = this.categoryGateway.deleteAllById(anIds);
+        anIds.forEach(this::forget);
+        return deleted;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var aFlight = new Flight(DataSourceRouting.current(), anId);
+        final var aFuture = new CompletableFuture<Optional<Category>>();
+        final var inFlight = this.flights.putIfAbsent(aFlight, aFuture);
+
+        if (inFlight != null) {
+            this.coalesced.increment();
+            return await(inFlight).map(Category::clone);
+        }
+
+        if (this.batchWindowNanos > 0) {
+            enqueue(aFlight, aFuture);
+        } else {
+            load(aFlight, aFuture);
+        }
+        return await(aFuture).map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.categoryGateway.update(aCategory);
+        forget(updated.getId());
+        return updated;
+    }
+
+    @Override
+    public int patch(final CategoryPatch aPatch) {
+        final var patched = this.categoryGateway.patch(aPatch);
+        forget(aPatch.id());
+        return patched;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findSummaries(aQuery);
+    }
+
+    private void load(final Flight aFlight, final CompletableFuture<Optional<Category>> aFuture) {
+        try {
+            aFuture.complete(this.categoryGateway.findById(aFlight.id()));
+        } catch (final Throwable t) {
+            aFuture.completeExceptionally(t);
+        } finally {
+            this.flights.remove(aFlight, aFuture);
+        }
+    }
+
+    private void enqueue(final Flight aFlight, final CompletableFuture<Optional<Category>> aFuture) {
+        final var aRoute = aFlight.route();
+        while (true) {
+            final var pending = this.batches.get(aRoute);
+            if (pending != null) {
+                if (pending.add(aFlight.id(), aFuture, this.maxBatchSize)) {
+                    return;
+                }
+                this.batches.remove(aRoute, pending);
+                continue;
+            }
+
+            final var aBatch = new Batch(aFlight.id(), aFuture);
+            if (this.batches.putIfAbsent(aRoute, aBatch) == null) {
+                flush(aRoute, aBatch);
+                return;
+            }
+        }
+    }
+
+    private void flush(final DataSourceRouting.Route aRoute, final Batch aBatch) {
+        final var pending = aBatch.close(this.batchWindowNanos, this.maxBatchSize);
+        this.batches.remove(aRoute, aBatch);
+
+        try {
+            final var anIds = pending.stream().map(Lookup::id).distinct().toList();
+            final var found = this.categoryGateway.findAllByIds(anIds)
+                    .stream()
+                    .collect(Collectors.toMap(Category::getId, Function.identity(), (first, second) -> first));
+            pending.forEach(aLookup -> aLookup.future().complete(Optional.ofNullable(found.get(aLookup.id()))));
+        } catch (final Throwable t) {
+            pending.forEach(aLookup -> aLookup.future().completeExceptionally(t));
+        } finally {
+            pending.forEach(aLookup -> this.flights.remove(new Flight(aRoute, aLookup.id()), aLookup.future()));
+        }
+    }
+
+    private void forget(final CategoryID anId) {
+        for (final var aRoute : DataSourceRouting.Route.values()) {
+            this.flights.remove(new Flight(aRoute, anId));
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Flight(DataSourceRouting.Route route, CategoryID id) {
+    }
+
+    private record Lookup(CategoryID id, CompletableFuture<Optional<Category>> future) {
+    }
+
+    private static final class Batch {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition full = this.lock.newCondition();
+        private final List<Lookup> pending = new ArrayList<>();
+        private boolean closed;
+
+        private Batch(final CategoryID anId, final CompletableFuture<Optional<Category>> aFuture) {
+            this.pending.add(new Lookup(anId, aFuture));
+        }
+
+        private boolean add(
+                final CategoryID anId,
+                final CompletableFuture<Optional<Category>> aFuture,
+                final int maxBatchSize
+        ) {
+            this.lock.lock();
+            try {
+                if (this.closed || this.pending.size() >= maxBatchSize) {
+                    return false;
+                }
+                this.pending.add(new Lookup(anId, aFuture));
+                if (this.pending.size() >= maxBatchSize) {
+                    this.full.signal();
+                }
+                return true;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private List<Lookup> close(
+                final long windowNanos,
+                final int maxBatchSize
+        ) {
+            this.lock.lock();
+            try {
+                var remaining = windowNanos;
+                while (remaining > 0 && this.pending.size() < maxBatchSize) {
+                    try {
+                        remaining = this.full.awaitNanos(remaining);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                this.closed = true;
+                return List.copyOf(this.pending);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence.DataSourceRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class ConcurrencyLimitedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final Map<DataSourceRouting.Route, Semaphore> permits;
+    private final Map<DataSourceRouting.Route, Integer> maxConcurrency;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final int maxConcurrency,
+            final Duration acquireTimeout
+    ) {
+        this(categoryGateway, maxConcurrency, maxConcurrency, acquireTimeout);
+    }
+
+    public ConcurrencyLimitedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final int primaryMaxConcurrency,
+            final int replicaMaxConcurrency,
+            final Duration acquireTimeout
+    ) {
+        if (primaryMaxConcurrency < 1) {
+            throw new IllegalArgumentException("'primaryMaxConcurrency' should be greater than zero");
+        }
+        if (replicaMaxConcurrency < 1) {
+            throw new IllegalArgumentException("'replicaMaxConcurrency' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.maxConcurrency = new EnumMap<>(Map.of(
+                DataSourceRouting.Route.PRIMARY, primaryMaxConcurrency,
+                DataSourceRouting.Route.REPLICA, replicaMaxConcurrency
+        ));
+        this.permits = new EnumMap<>(DataSourceRouting.Route.class);
+        this.maxConcurrency.forEach((aRoute, aMax) -> this.permits.put(aRoute, new Semaphore(aMax, true)));
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    public ConcurrencyLimitedCategoryGateway bindTo(final MeterRegistry registry) {
+        this.permits.forEach((aRoute, aPermits) -> {
+            final var aTag = aRoute.name().toLowerCase();
+            final int aMax = this.maxConcurrency.get(aRoute);
+            Gauge.builder("categories.gateway.permits.in-use", aPermits, it -> aMax - it.availablePermits())
+                    .tag("route", aTag)
+                    .register(registry);
+            Gauge.builder("categories.gateway.permits.queued", aPermits, Semaphore::getQueueLength)
+                    .tag("route", aTag)
+                    .register(registry);
+        });
+        return this;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return limited(() -> this.categoryGateway.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return limited(() -> this.categoryGateway.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        limited(() -> {
+            this.categoryGateway.deleteById(anId);
+            return null;
+        });
+    }
+
+    @Override
+    public int deleteAllById(final List<CategoryID> anIds) {
+        return limited(() -> this.categoryGateway.deleteAllById(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return limited(() -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return limited(() -> this.categoryGateway.findAllByIds(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return limited(() -> this.categoryGateway.update(aCategory));
+    }
+
+    @Override
+    public int patch(final CategoryPatch aPatch) {
+        return limited(() -> this.categoryGateway.patch(aPatch));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return limited(() -> this.categoryGateway.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return limited(() -> this.categoryGateway.findSummaries(aQuery));
+    }
+
+    private <T> T limited(final Supplier<T> aCall) {
+        final var aPermits = this.permits.get(DataSourceRouting.current());
+        acquire(aPermits);
+        try {
+            return aCall.get();
+        } finally {
+            aPermits.release();
+        }
+    }
+
+    private void acquire(final Semaphore aPermits) {
+        try {
+            if (!aPermits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw UnavailableException.with("Timed out waiting for a category database slot");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw UnavailableException.with("Interrupted while waiting for a category database slot");
+        }
+    }
+}
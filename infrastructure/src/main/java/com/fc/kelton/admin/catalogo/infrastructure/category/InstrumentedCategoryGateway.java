@@ -0,0 +1,132 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class InstrumentedCategoryGateway implements CategoryGateway {
+
+    private static final String CALLS = "categories.gateway.db.calls";
+    private static final String ERRORS = "categories.gateway.db.errors";
+    private static final String RESULTS = "categories.gateway.db.results";
+
+    private final CategoryGateway categoryGateway;
+    private final MeterRegistry registry;
+    private final DistributionSummary findAllResults;
+    private final DistributionSummary findSummariesResults;
+
+    public InstrumentedCategoryGateway(final CategoryGateway categoryGateway, final MeterRegistry registry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.registry = Objects.requireNonNull(registry);
+        this.findAllResults = results("findAll", registry);
+        this.findSummariesResults = results("findSummaries", registry);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return record("create", () -> this.categoryGateway.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return record("createAll", () -> this.categoryGateway.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        record("deleteById", () -> {
+            this.categoryGateway.deleteById(anId);
+            return null;
+        });
+    }
+
+    @Override
+    public int deleteAllById(final List<CategoryID> anIds) {
+        return record("deleteAllById", () -> this.categoryGateway.deleteAllById(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return record("findById", () -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return record("findAllByIds", () -> this.categoryGateway.findAllByIds(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return record("update", () -> this.categoryGateway.update(aCategory));
+    }
+
+    @Override
+    public int patch(final CategoryPatch aPatch) {
+        return record("patch", () -> this.categoryGateway.patch(aPatch));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        final var aPage = record("findAll", () -> this.categoryGateway.findAll(aQuery));
+        this.findAllResults.record(aPage.items().size());
+        return aPage;
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        final var aPage = record("findSummaries", () -> this.categoryGateway.findSummaries(aQuery));
+        this.findSummariesResults.record(aPage.items().size());
+        return aPage;
+    }
+
+    private static DistributionSummary results(final String aMethod, final MeterRegistry registry) {
+        return DistributionSummary.builder(RESULTS)
+                .description("Items loaded from the database by CategoryGateway." + aMethod)
+                .tag("method", aMethod)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private <T> T record(final String aMethod, final Supplier<T> aCall) {
+        final var sample = Timer.start(this.registry);
+        try {
+            final var result = aCall.get();
+            sample.stop(timer(aMethod, "success"));
+            return result;
+        } catch (final RuntimeException ex) {
+            sample.stop(timer(aMethod, "exception"));
+            Counter.builder(ERRORS)
+                    .tag("method", aMethod)
+                    .tag("kind", "exception")
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(this.registry)
+                    .increment();
+            throw ex;
+        }
+    }
+
+    private Timer timer(final String aMethod, final String anOutcome) {
+        return Timer.builder(CALLS)
+                .description("Latency of CategoryGateway calls that reach the database, below the cache and request coalescing")
+                .tag("method", aMethod)
+                .tag("outcome", anOutcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(this.registry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoriesByIdsApiOutput(
+        @JsonProperty("items") List<CategoryApiOutput> items,
+        @JsonProperty("missing") List<String> missing
+) {
+
+}
@@ -0,0 +1,52 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public record CategoryListApiOutput(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {
+
+    public static final Map<String, CategorySummary.Field> FIELDS = Map.of(
+            "name", CategorySummary.Field.NAME,
+            "description", CategorySummary.Field.DESCRIPTION,
+            "is_active", CategorySummary.Field.ACTIVE,
+            "created_at", CategorySummary.Field.CREATED_AT,
+            "updated_at", CategorySummary.Field.UPDATED_AT,
+            "deleted_at", CategorySummary.Field.DELETED_AT
+    );
+
+    public static Set<CategorySummary.Field> fieldsOf(final String aFields) {
+        if (aFields == null || aFields.isBlank()) {
+            return null;
+        }
+
+        final var fields = EnumSet.noneOf(CategorySummary.Field.class);
+        for (final var aName : aFields.split(",")) {
+            final var trimmed = aName.trim();
+            if (trimmed.equals("id")) {
+                continue;
+            }
+            final var aField = FIELDS.get(trimmed);
+            if (aField == null) {
+                throw DomainException.with(new Error("'fields' must be a list of id, name, description, is_active, created_at, updated_at or deleted_at"));
+            }
+            fields.add(aField);
+        }
+
+        return fields;
+    }
+}
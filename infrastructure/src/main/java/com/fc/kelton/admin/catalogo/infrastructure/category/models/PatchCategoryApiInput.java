@@ -0,0 +1,68 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.Set;
+
+public record PatchCategoryApiInput(
+        Set<CategoryPatch.Field> fields,
+        String name,
+        String description,
+        boolean active,
+        Instant updatedAt
+) {
+
+    public static PatchCategoryApiInput from(final JsonNode aBody) {
+        if (aBody == null || !aBody.isObject()) {
+            throw DomainException.with(new Error("'patch' should be a JSON object"));
+        }
+
+        final var fields = EnumSet.noneOf(CategoryPatch.Field.class);
+        if (aBody.has("name")) {
+            fields.add(CategoryPatch.Field.NAME);
+        }
+        if (aBody.has("description")) {
+            fields.add(CategoryPatch.Field.DESCRIPTION);
+        }
+        if (aBody.has("is_active")) {
+            if (!aBody.get("is_active").isBoolean()) {
+                throw DomainException.with(new Error("'is_active' should be a boolean"));
+            }
+            fields.add(CategoryPatch.Field.ACTIVE);
+        }
+
+        return new PatchCategoryApiInput(
+                fields,
+                textOf(aBody, "name"),
+                textOf(aBody, "description"),
+                aBody.path("is_active").asBoolean(),
+                instantOf(aBody, "updated_at")
+        );
+    }
+
+    private static String textOf(final JsonNode aBody, final String aField) {
+        final var aNode = aBody.get(aField);
+        if (aNode == null || aNode.isNull()) {
+            return null;
+        }
+        if (!aNode.isTextual()) {
+            throw DomainException.with(new Error("'%s' should be a string".formatted(aField)));
+        }
+        return aNode.asText();
+    }
+
+    private static Instant instantOf(final JsonNode aBody, final String aField) {
+        final var aText = textOf(aBody, aField);
+        try {
+            return aText != null ? Instant.parse(aText) : null;
+        } catch (final DateTimeParseException ex) {
+            throw DomainException.with(new Error("'%s' should be an ISO-8601 instant".formatted(aField)));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record PatchCategoryApiOutput(
+        @JsonProperty("id") String id,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+
+}
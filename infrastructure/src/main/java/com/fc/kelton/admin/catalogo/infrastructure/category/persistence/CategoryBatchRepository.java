@@ -0,0 +1,8 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.List;
+
+public interface CategoryBatchRepository {
+
+    void insertAll(List<CategoryJpaEntity> entities);
+}
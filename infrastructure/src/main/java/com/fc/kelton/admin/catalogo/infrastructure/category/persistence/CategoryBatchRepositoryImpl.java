@@ -0,0 +1,43 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    private static final String BATCH_SIZE = "hibernate.jdbc.batch_size";
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final EntityManager entityManager;
+
+    public CategoryBatchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(final List<CategoryJpaEntity> entities) {
+        final var batchSize = batchSize();
+
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private int batchSize() {
+        final var configured = this.entityManager.getEntityManagerFactory()
+                .getProperties()
+                .get(BATCH_SIZE);
+
+        return configured != null ? Integer.parseInt(configured.toString()) : DEFAULT_BATCH_SIZE;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.fc.kelton.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+
+public record CategoryCursor(
+        String sort,
+        Sort.Direction direction,
+        String id,
+        String value
+) {
+
+    private static final String SEPARATOR = ":";
+
+    public static boolean supports(final String aSort) {
+        return switch (aSort) {
+            case "name", "createdAt", "updatedAt" -> true;
+            default -> false;
+        };
+    }
+
+    public static CategoryCursor from(
+            final String aSort,
+            final Sort.Direction aDirection,
+            final CategorySummary aSummary
+    ) {
+        final var aValue = switch (aSort) {
+            case "name" -> aSummary.name();
+            case "createdAt" -> aSummary.createdAt().toString();
+            case "updatedAt" -> aSummary.updatedAt().toString();
+            default -> throw unsupportedSort(aSort);
+        };
+        return new CategoryCursor(aSort, aDirection, aSummary.id().getValue(), aValue);
+    }
+
+    public static CategoryCursor decode(final String aToken) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            final var parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4 || !supports(parts[0])) {
+                throw invalidCursor();
+            }
+            final var aCursor = new CategoryCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[2], parts[3]);
+            aCursor.checkValue();
+            return aCursor;
+        } catch (final IllegalArgumentException | DateTimeParseException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction.name(), id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(final String aSort, final Sort.Direction aDirection) {
+        return sort.equals(aSort) && direction == aDirection;
+    }
+
+    public Specification<CategoryJpaEntity> toSpecification() {
+        if ("name".equals(sort)) {
+            return after(sort, value, "id", id, direction);
+        }
+        return after(sort, Instant.parse(value), "id", id, direction);
+    }
+
+    private void checkValue() {
+        if (!CategoryIdConverter.isValid(id)) {
+            throw invalidCursor();
+        }
+        if (!"name".equals(sort)) {
+            Instant.parse(value);
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+    private static DomainException unsupportedSort(final String aSort) {
+        return DomainException.with(new Error("'%s' does not support cursor pagination".formatted(aSort)));
+    }
+}
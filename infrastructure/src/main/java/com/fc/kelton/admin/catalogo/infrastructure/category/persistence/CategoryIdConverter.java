@@ -0,0 +1,47 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Converter
+public class CategoryIdConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int UUID_BYTES = 16;
+    private static final Pattern UUID_FORMAT =
+            Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+
+    public static boolean isValid(final String anId) {
+        return anId != null && UUID_FORMAT.matcher(anId).matches();
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+
+        if (!isValid(anId)) {
+            throw new IllegalArgumentException("'id' should be a UUID but was '%s'".formatted(anId));
+        }
+
+        final var aUuid = UUID.fromString(anId);
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(aUuid.getMostSignificantBits())
+                .putLong(aUuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] aValue) {
+        if (aValue == null) {
+            return null;
+        }
+
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
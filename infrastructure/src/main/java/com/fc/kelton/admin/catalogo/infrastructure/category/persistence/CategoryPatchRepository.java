@@ -0,0 +1,8 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+
+public interface CategoryPatchRepository {
+
+    int patch(CategoryPatch aPatch);
+}
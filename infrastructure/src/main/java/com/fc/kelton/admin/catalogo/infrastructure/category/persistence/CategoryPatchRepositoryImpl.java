@@ -0,0 +1,59 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+public class CategoryPatchRepositoryImpl implements CategoryPatchRepository {
+
+    private final EntityManager entityManager;
+
+    public CategoryPatchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int patch(final CategoryPatch aPatch) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        if (aPatch.changes(CategoryPatch.Field.NAME)) {
+            update.set(root.<String>get("name"), aPatch.name());
+        }
+
+        if (aPatch.changes(CategoryPatch.Field.DESCRIPTION)) {
+            update.set(root.<String>get("description"), aPatch.description());
+        }
+
+        if (aPatch.changes(CategoryPatch.Field.ACTIVE)) {
+            update.set(root.<Boolean>get("active"), aPatch.active());
+            update.set(root.<Instant>get("deletedAt"), aPatch.active()
+                    ? cb.nullLiteral(Instant.class)
+                    : cb.coalesce(root.<Instant>get("deletedAt"), aPatch.updatedAt()));
+        }
+
+        update.set(root.<Instant>get("updatedAt"), aPatch.updatedAt());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        final var predicates = new ArrayList<Predicate>();
+        predicates.add(cb.equal(root.get("id"), aPatch.id().getValue()));
+        if (aPatch.expectedUpdatedAt() != null) {
+            predicates.add(cb.equal(root.get("updatedAt"), aPatch.expectedUpdatedAt()));
+        }
+        if (aPatch.expectedVersion() != null) {
+            predicates.add(cb.equal(root.get("version"), aPatch.expectedVersion()));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+
+        this.entityManager.flush();
+        final var rows = this.entityManager.createQuery(update).executeUpdate();
+        this.entityManager.detach(this.entityManager.getReference(CategoryJpaEntity.class, aPatch.id().getValue()));
+        return rows;
+    }
+}
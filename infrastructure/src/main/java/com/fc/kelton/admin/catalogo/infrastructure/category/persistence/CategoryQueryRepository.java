@@ -0,0 +1,32 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public interface CategoryQueryRepository {
+
+    List<CategoryJpaEntity> findSlice(
+            Specification<CategoryJpaEntity> whereClause,
+            Sort sort,
+            int offset,
+            int limit
+    );
+
+    List<CategorySummary> findSummarySlice(
+            Specification<CategoryJpaEntity> whereClause,
+            Sort sort,
+            int offset,
+            int limit,
+            Set<CategorySummary.Field> fields
+    );
+
+    List<CategorySummary> findSummariesById(Collection<String> ids, Set<CategorySummary.Field> fields);
+
+    OptionalLong estimateCount();
+}
@@ -0,0 +1,157 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
+
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public class CategoryQueryRepositoryImpl implements CategoryQueryRepository {
+
+    private static final String MYSQL = "MySQL";
+
+    private static final String TABLE_ROWS_QUERY = """
+            SELECT TABLE_ROWS FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'
+            """;
+
+    private final EntityManager entityManager;
+
+    public CategoryQueryRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryJpaEntity> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        return slice(query, root, cb, whereClause, sort, offset, limit).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySummary> findSummarySlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final int offset,
+            final int limit,
+            final Set<CategorySummary.Field> fields
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategorySummary.class);
+        final var root = query.from(CategoryJpaEntity.class);
+        query.select(summaryOf(root, cb, fields));
+
+        return slice(query, root, cb, whereClause, sort, offset, limit).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySummary> findSummariesById(
+            final Collection<String> ids,
+            final Set<CategorySummary.Field> fields
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategorySummary.class);
+        final var root = query.from(CategoryJpaEntity.class);
+        query.select(summaryOf(root, cb, fields)).where(root.get("id").in(ids));
+
+        return this.entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OptionalLong estimateCount() {
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!MYSQL.equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return OptionalLong.empty();
+            }
+
+            try (final var statement = connection.prepareStatement(TABLE_ROWS_QUERY);
+                 final var resultSet = statement.executeQuery()) {
+                return resultSet.next() ? OptionalLong.of(resultSet.getLong(1)) : OptionalLong.empty();
+            }
+        });
+    }
+
+    private <T> TypedQuery<T> slice(
+            final CriteriaQuery<T> query,
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder cb,
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        final var orders = new ArrayList<>(query.getOrderList());
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        query.orderBy(orders);
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+    }
+
+    private static CompoundSelection<CategorySummary> summaryOf(
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder cb,
+            final Set<CategorySummary.Field> fields
+    ) {
+        return cb.construct(
+                CategorySummary.class,
+                root.get("id"),
+                column(root, cb, fields, CategorySummary.Field.NAME, "name", String.class),
+                column(root, cb, fields, CategorySummary.Field.DESCRIPTION, "description", String.class),
+                column(root, cb, fields, CategorySummary.Field.ACTIVE, "active", Boolean.class),
+                column(root, cb, fields, CategorySummary.Field.CREATED_AT, "createdAt", Instant.class),
+                column(root, cb, fields, CategorySummary.Field.UPDATED_AT, "updatedAt", Instant.class),
+                column(root, cb, fields, CategorySummary.Field.DELETED_AT, "deletedAt", Instant.class),
+                root.get("version")
+        );
+    }
+
+    private static <T> Selection<T> column(
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder cb,
+            final Set<CategorySummary.Field> fields,
+            final CategorySummary.Field aField,
+            final String anAttribute,
+            final Class<T> aType
+    ) {
+        return fields.contains(aField) ? root.<T>get(anAttribute) : cb.nullLiteral(aType);
+    }
+}
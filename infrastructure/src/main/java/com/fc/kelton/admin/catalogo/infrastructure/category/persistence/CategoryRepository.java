@@ -4,8 +4,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.util.Collection;
+
+public interface CategoryRepository extends
+        JpaRepository<CategoryJpaEntity, String>,
+        CategoryQueryRepository,
+        CategoryBatchRepository,
+        CategoryPatchRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
+
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
 }
@@ -1,7 +1,19 @@
 package com.fc.kelton.admin.catalogo.infrastructure.category.presenters;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsOutput;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryOutput;
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoriesByIdsApiOutput;
 import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryApiOutput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.CategoryListApiOutput;
+import com.fc.kelton.admin.catalogo.infrastructure.category.models.PatchCategoryApiOutput;
+
+import java.io.IOException;
+import java.util.Set;
 
 public interface CategoryApiPresenter {
 
@@ -16,4 +28,83 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategoriesByIdsApiOutput present(final GetCategoriesByIdsOutput output) {
+        return new CategoriesByIdsApiOutput(
+                output.items().stream().map(CategoryApiPresenter::present).toList(),
+                output.missing()
+        );
+    }
+
+    static PatchCategoryApiOutput present(final PatchCategoryOutput output) {
+        return new PatchCategoryApiOutput(output.id(), output.updatedAt());
+    }
+
+    static CategoryListApiOutput present(final CategoryListOutput output) {
+        return new CategoryListApiOutput(
+                output.id().getValue(),
+                output.name(),
+                output.description(),
+                output.isActive(),
+                output.createdAt(),
+                output.updatedAt(),
+                output.deletedAt()
+        );
+    }
+
+    static void present(
+            final Pagination<CategoryListOutput> aPage,
+            final Set<CategorySummary.Field> fields,
+            final JsonGenerator generator
+    ) throws IOException {
+        final var sparse = !fields.equals(CategorySummary.Field.ALL);
+
+        generator.writeStartObject();
+        generator.writeNumberField("current_page", aPage.currentPage());
+        generator.writeNumberField("per_page", aPage.perPage());
+        generator.writeNumberField("total", aPage.total());
+        generator.writeStringField("total_kind", aPage.totalKind().name());
+        generator.writeBooleanField("has_next", aPage.hasNext());
+        generator.writeStringField("next_cursor", aPage.nextCursor());
+
+        generator.writeArrayFieldStart("items");
+        for (final var output : aPage.items()) {
+            if (sparse) {
+                present(output, fields, generator);
+            } else {
+                generator.writeObject(present(output));
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void present(
+            final CategoryListOutput output,
+            final Set<CategorySummary.Field> fields,
+            final JsonGenerator generator
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", output.id().getValue());
+        if (fields.contains(CategorySummary.Field.NAME)) {
+            generator.writeStringField("name", output.name());
+        }
+        if (fields.contains(CategorySummary.Field.DESCRIPTION)) {
+            generator.writeStringField("description", output.description());
+        }
+        if (fields.contains(CategorySummary.Field.ACTIVE)) {
+            generator.writeObjectField("is_active", output.isActive());
+        }
+        if (fields.contains(CategorySummary.Field.CREATED_AT)) {
+            generator.writeObjectField("created_at", output.createdAt());
+        }
+        if (fields.contains(CategorySummary.Field.UPDATED_AT)) {
+            generator.writeObjectField("updated_at", output.updatedAt());
+        }
+        if (fields.contains(CategorySummary.Field.DELETED_AT)) {
+            generator.writeObjectField("deleted_at", output.deletedAt());
+        }
+        generator.writeEndObject();
+    }
 }
@@ -0,0 +1,9 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import java.util.List;
+
+public record CategorySearchHits(
+        List<String> ids,
+        long total
+) {
+}
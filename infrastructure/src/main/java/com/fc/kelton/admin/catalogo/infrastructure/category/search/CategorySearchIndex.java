@@ -0,0 +1,381 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.domain.validation.Error;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryCursor;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+public class CategorySearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final String RELEVANCE = "relevance";
+
+    private final CategoryRepository categoryRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<Segment>> pendingWrites = new ArrayList<>();
+    private Segment segment = new Segment();
+    private boolean ready;
+    private boolean rebuilding;
+
+    public CategorySearchIndex(
+            final CategoryRepository categoryRepository,
+            @Value("${categories.search.index.enabled:false}") final boolean enabled
+    ) {
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.enabled) {
+            rebuild();
+        }
+    }
+
+    public boolean isReady() {
+        this.lock.readLock().lock();
+        try {
+            return this.enabled && this.ready;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public void index(final Category aCategory) {
+        final var document = IndexedCategory.from(aCategory);
+        write(aSegment -> aSegment.put(document));
+    }
+
+    public void patch(final CategoryPatch aPatch) {
+        final var anIdValue = aPatch.id().getValue();
+        write(aSegment -> aSegment.patch(anIdValue, aPatch));
+    }
+
+    public void remove(final CategoryID anId) {
+        final var anIdValue = anId.getValue();
+        write(aSegment -> aSegment.remove(anIdValue));
+    }
+
+    public Optional<CategorySearchHits> search(
+            final String terms,
+            final String aSort,
+            final Sort.Direction aDirection,
+            final CategoryCursor after,
+            final int offset,
+            final int limit
+    ) {
+        final var tokens = IndexedCategory.tokenize(terms);
+        final var byRelevance = RELEVANCE.equals(aSort);
+        final var comparator = comparatorOf(aSort, aDirection);
+        if (tokens.isEmpty() || (!byRelevance && comparator.isEmpty())) {
+            return Optional.empty();
+        }
+
+        final List<IndexedCategory> matches;
+        this.lock.readLock().lock();
+        try {
+            if (!this.enabled || !this.ready) {
+                return Optional.empty();
+            }
+            matches = this.segment.match(tokens);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        final var order = byRelevance ? relevanceOf(tokens, matches) : comparator.get();
+        final var probe = after != null ? IndexedCategory.probe(after) : null;
+        final var ids = matches.stream()
+                .filter(document -> probe == null || order.compare(document, probe) > 0)
+                .sorted(order)
+                .skip(offset)
+                .limit(limit)
+                .map(IndexedCategory::id)
+                .toList();
+
+        return Optional.of(new CategorySearchHits(ids, matches.size()));
+    }
+
+    public synchronized void rebuild() {
+        ensureEnabled();
+
+        this.lock.writeLock().lock();
+        try {
+            this.rebuilding = true;
+            this.pendingWrites.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        final var fresh = new Segment();
+        try {
+            forEachStored(entity -> fresh.put(IndexedCategory.from(entity)));
+        } catch (final RuntimeException ex) {
+            this.lock.writeLock().lock();
+            try {
+                this.rebuilding = false;
+                this.pendingWrites.clear();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            this.pendingWrites.forEach(aWrite -> aWrite.accept(fresh));
+            this.pendingWrites.clear();
+            this.segment = fresh;
+            this.rebuilding = false;
+            this.ready = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public CategorySearchIndexReport check() {
+        ensureEnabled();
+
+        final var stored = new HashSet<String>();
+        final var missing = new ArrayList<String>();
+        final var stale = new ArrayList<String>();
+
+        forEachStored(entity -> {
+            stored.add(entity.getId());
+            this.lock.readLock().lock();
+            try {
+                final var document = this.segment.get(entity.getId());
+                if (document == null) {
+                    missing.add(entity.getId());
+                } else if (!document.matches(entity)) {
+                    stale.add(entity.getId());
+                }
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        });
+
+        this.lock.readLock().lock();
+        try {
+            final var orphaned = this.segment.ids().stream()
+                    .filter(anId -> !stored.contains(anId))
+                    .sorted()
+                    .toList();
+
+            return new CategorySearchIndexReport(
+                    missing.isEmpty() && stale.isEmpty() && orphaned.isEmpty(),
+                    this.segment.size(),
+                    this.segment.slots(),
+                    stored.size(),
+                    this.segment.terms(),
+                    this.segment.postingsBytes(),
+                    missing,
+                    stale,
+                    orphaned
+            );
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void write(final Consumer<Segment> aWrite) {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            aWrite.accept(this.segment);
+            if (this.rebuilding) {
+                this.pendingWrites.add(aWrite);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void forEachStored(final Consumer<CategoryJpaEntity> consumer) {
+        String lastId = null;
+        List<CategoryJpaEntity> batch;
+        do {
+            final var fromId = lastId;
+            final Specification<CategoryJpaEntity> afterId = fromId == null
+                    ? null
+                    : (root, query, cb) -> cb.greaterThan(root.get("id"), fromId);
+
+            batch = this.categoryRepository.findSlice(afterId, Sort.by("id"), 0, REBUILD_BATCH_SIZE);
+            batch.forEach(consumer);
+
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    private void ensureEnabled() {
+        if (!this.enabled) {
+            throw DomainException.with(new Error("Category search index is disabled"));
+        }
+    }
+
+    private static Optional<Comparator<IndexedCategory>> comparatorOf(final String aSort, final Sort.Direction aDirection) {
+        final Comparator<IndexedCategory> key = switch (aSort) {
+            case "name" -> Comparator.comparing(IndexedCategory::nameKey);
+            case "createdAt" -> Comparator.comparing(IndexedCategory::createdAt);
+            case "updatedAt" -> Comparator.comparing(IndexedCategory::updatedAt);
+            default -> null;
+        };
+
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        final var ordered = key.thenComparing(IndexedCategory::id);
+        return Optional.of(aDirection.isDescending() ? ordered.reversed() : ordered);
+    }
+
+    private static Comparator<IndexedCategory> relevanceOf(final List<String> tokens, final List<IndexedCategory> matches) {
+        final var scores = new HashMap<String, Integer>(matches.size());
+        matches.forEach(document -> scores.put(document.id(), document.score(tokens)));
+
+        return Comparator.<IndexedCategory>comparingInt(document -> scores.getOrDefault(document.id(), 0))
+                .reversed()
+                .thenComparing(IndexedCategory::nameKey)
+                .thenComparing(IndexedCategory::id);
+    }
+
+    private static final class Segment {
+
+        private final Map<String, Integer> docIds = new HashMap<>();
+        private final List<IndexedCategory> documents = new ArrayList<>();
+        private final Deque<Integer> freeDocs = new ArrayDeque<>();
+        private final TreeMap<String, PostingList> postings = new TreeMap<>();
+
+        void put(final IndexedCategory document) {
+            final var existing = docIds.get(document.id());
+            final int doc;
+            if (existing != null) {
+                doc = existing;
+                unlink(doc, documents.get(doc));
+                documents.set(doc, document);
+            } else if (!freeDocs.isEmpty()) {
+                doc = freeDocs.pop();
+                documents.set(doc, document);
+                docIds.put(document.id(), doc);
+            } else {
+                doc = documents.size();
+                documents.add(document);
+                docIds.put(document.id(), doc);
+            }
+
+            for (final var token : document.tokens()) {
+                postings.computeIfAbsent(token, t -> new PostingList()).add(doc);
+            }
+        }
+
+        void remove(final String anId) {
+            final var doc = docIds.remove(anId);
+            if (doc != null) {
+                unlink(doc, documents.get(doc));
+                documents.set(doc, null);
+                freeDocs.push(doc);
+            }
+        }
+
+        void patch(final String anId, final CategoryPatch aPatch) {
+            final var existing = get(anId);
+            if (existing != null) {
+                put(existing.patch(aPatch));
+            }
+        }
+
+        IndexedCategory get(final String anId) {
+            final var doc = docIds.get(anId);
+            return doc != null ? documents.get(doc) : null;
+        }
+
+        List<IndexedCategory> match(final List<String> tokens) {
+            BitSet result = null;
+            for (final var token : tokens) {
+                final var prefixed = new BitSet();
+                postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                        .values()
+                        .forEach(list -> list.collect(prefixed));
+
+                if (result == null) {
+                    result = prefixed;
+                } else {
+                    result.and(prefixed);
+                }
+
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+
+            return result.stream()
+                    .mapToObj(documents::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        List<String> ids() {
+            return List.copyOf(docIds.keySet());
+        }
+
+        int size() {
+            return docIds.size();
+        }
+
+        int slots() {
+            return documents.size();
+        }
+
+        int terms() {
+            return postings.size();
+        }
+
+        long postingsBytes() {
+            return postings.values().stream().mapToLong(PostingList::sizeInBytes).sum();
+        }
+
+        private void unlink(final int doc, final IndexedCategory document) {
+            for (final var token : document.tokens()) {
+                final var list = postings.get(token);
+                if (list != null) {
+                    list.remove(doc);
+                    if (list.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import java.util.List;
+
+public record CategorySearchIndexReport(
+        boolean consistent,
+        long indexed,
+        long slots,
+        long stored,
+        long terms,
+        long postingsBytes,
+        List<String> missing,
+        List<String> stale,
+        List<String> orphaned
+) {
+}
@@ -0,0 +1,133 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryCursor;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+record IndexedCategory(
+        String id,
+        String name,
+        CollationKey nameKey,
+        Instant createdAt,
+        Instant updatedAt,
+        List<String> nameTokens,
+        List<String> descriptionTokens
+) {
+
+    private static final Collator NAME_COLLATOR = nameCollator();
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    static IndexedCategory from(final Category aCategory) {
+        return new IndexedCategory(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                nameKeyOf(aCategory.getName()),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                tokenize(aCategory.getName()),
+                tokenize(aCategory.getDescription())
+        );
+    }
+
+    static IndexedCategory from(final CategoryJpaEntity anEntity) {
+        return new IndexedCategory(
+                anEntity.getId(),
+                anEntity.getName(),
+                nameKeyOf(anEntity.getName()),
+                anEntity.getCreatedAt(),
+                anEntity.getUpdatedAt(),
+                tokenize(anEntity.getName()),
+                tokenize(anEntity.getDescription())
+        );
+    }
+
+    IndexedCategory patch(final CategoryPatch aPatch) {
+        final var aName = aPatch.changes(CategoryPatch.Field.NAME) ? aPatch.name() : name;
+        return new IndexedCategory(
+                id,
+                aName,
+                nameKeyOf(aName),
+                createdAt,
+                aPatch.updatedAt(),
+                aPatch.changes(CategoryPatch.Field.NAME) ? tokenize(aPatch.name()) : nameTokens,
+                aPatch.changes(CategoryPatch.Field.DESCRIPTION) ? tokenize(aPatch.description()) : descriptionTokens
+        );
+    }
+
+    static IndexedCategory probe(final CategoryCursor aCursor) {
+        return switch (aCursor.sort()) {
+            case "createdAt" -> new IndexedCategory(aCursor.id(), null, null, Instant.parse(aCursor.value()), null, List.of(), List.of());
+            case "updatedAt" -> new IndexedCategory(aCursor.id(), null, null, null, Instant.parse(aCursor.value()), List.of(), List.of());
+            default -> new IndexedCategory(aCursor.id(), aCursor.value(), nameKeyOf(aCursor.value()), null, null, List.of(), List.of());
+        };
+    }
+
+    List<String> tokens() {
+        return Stream.concat(nameTokens.stream(), descriptionTokens.stream())
+                .distinct()
+                .toList();
+    }
+
+    int score(final List<String> aTokens) {
+        return aTokens.stream()
+                .mapToInt(aToken -> score(nameTokens, aToken) * NAME_WEIGHT + score(descriptionTokens, aToken) * DESCRIPTION_WEIGHT)
+                .sum();
+    }
+
+    static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        final var normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    boolean matches(final CategoryJpaEntity anEntity) {
+        return Objects.equals(name, anEntity.getName())
+                && Objects.equals(nameTokens, tokenize(anEntity.getName()))
+                && Objects.equals(descriptionTokens, tokenize(anEntity.getDescription()))
+                && Objects.equals(truncate(updatedAt), truncate(anEntity.getUpdatedAt()));
+    }
+
+    private static int score(final List<String> aFieldTokens, final String aToken) {
+        if (aFieldTokens.contains(aToken)) {
+            return 2;
+        }
+        return aFieldTokens.stream().anyMatch(token -> token.startsWith(aToken)) ? 1 : 0;
+    }
+
+    private static CollationKey nameKeyOf(final String aName) {
+        return NAME_COLLATOR.getCollationKey(Objects.toString(aName, ""));
+    }
+
+    private static Collator nameCollator() {
+        final var aCollator = Collator.getInstance(Locale.ROOT);
+        aCollator.setStrength(Collator.PRIMARY);
+        aCollator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return aCollator;
+    }
+
+    private static Instant truncate(final Instant anInstant) {
+        return anInstant == null ? null : anInstant.truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,101 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    void add(final int doc) {
+        if (doc > last) {
+            append(doc - last);
+            last = doc;
+            size++;
+            return;
+        }
+
+        final var docs = toArray();
+        if (Arrays.binarySearch(docs, doc) >= 0) {
+            return;
+        }
+
+        final var merged = Arrays.copyOf(docs, docs.length + 1);
+        merged[docs.length] = doc;
+        Arrays.sort(merged);
+        encode(merged);
+    }
+
+    void remove(final int doc) {
+        final var docs = toArray();
+        final var position = Arrays.binarySearch(docs, doc);
+        if (position < 0) {
+            return;
+        }
+
+        final var remaining = new int[docs.length - 1];
+        System.arraycopy(docs, 0, remaining, 0, position);
+        System.arraycopy(docs, position + 1, remaining, position, docs.length - position - 1);
+        encode(remaining);
+    }
+
+    void collect(final BitSet target) {
+        var doc = -1;
+        var offset = 0;
+        while (offset < length) {
+            var delta = 0;
+            var shift = 0;
+            byte current;
+            do {
+                current = bytes[offset++];
+                delta |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            doc += delta;
+            target.set(doc);
+        }
+    }
+
+    int[] toArray() {
+        final var docs = new BitSet();
+        collect(docs);
+        return docs.stream().toArray();
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void encode(final int[] docs) {
+        this.length = 0;
+        this.size = 0;
+        this.last = -1;
+        for (final int doc : docs) {
+            append(doc - last);
+            last = doc;
+            size++;
+        }
+    }
+
+    private void append(int delta) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration;
+
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${categories.id.generator:random}") final String aGenerator) {
+        return switch (aGenerator.toLowerCase()) {
+            case "random", "uuid-v4" -> IdGenerator.random();
+            case "time-ordered", "uuid-v7" -> IdGenerator.timeOrdered();
+            default -> throw new IllegalStateException("Unknown 'categories.id.generator': " + aGenerator);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.metrics;
+
+import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+    private static final String EXECUTIONS = "usecase.executions";
+    private static final String ERRORS = "usecase.errors";
+
+    private final MeterRegistry registry;
+
+    public UseCaseMetricsAspect(final MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Around("execution(* com.fc.kelton.admin.catalogo.application.UseCase+.execute(..))"
+            + " || execution(* com.fc.kelton.admin.catalogo.application.UnitUseCase+.execute(..))"
+            + " || execution(* com.fc.kelton.admin.catalogo.application.NullaryUseCase+.execute(..))")
+    public Object measure(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var aUseCase = nameOf(joinPoint.getTarget());
+        final var sample = Timer.start(this.registry);
+
+        try {
+            final var result = joinPoint.proceed();
+            if (isNotification(result)) {
+                sample.stop(timer(aUseCase, "notification"));
+                errors(aUseCase, "notification", Notification.class.getSimpleName()).increment();
+            } else {
+                sample.stop(timer(aUseCase, "success"));
+            }
+            return result;
+        } catch (final Throwable t) {
+            sample.stop(timer(aUseCase, "exception"));
+            errors(aUseCase, "exception", t.getClass().getSimpleName()).increment();
+            throw t;
+        }
+    }
+
+    private static boolean isNotification(final Object aResult) {
+        return aResult instanceof Either<?, ?> either
+                && either.isLeft()
+                && either.getLeft() instanceof Notification;
+    }
+
+    private static String nameOf(final Object aTarget) {
+        return aTarget.getClass().getSuperclass().getSimpleName();
+    }
+
+    private Timer timer(final String aUseCase, final String anOutcome) {
+        return Timer.builder(EXECUTIONS)
+                .description("Latency of use case executions")
+                .tag("usecase", aUseCase)
+                .tag("outcome", anOutcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(this.registry);
+    }
+
+    private Counter errors(final String aUseCase, final String aKind, final String aCause) {
+        return Counter.builder(ERRORS)
+                .description("Use case executions that ended in a Notification or an exception")
+                .tag("usecase", aUseCase)
+                .tag("kind", aKind)
+                .tag("cause", aCause)
+                .register(this.registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+public final class DataSourceRouting {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    private static final ThreadLocal<Boolean> READ_ONLY = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    public static Route current() {
+        return READ_ONLY.get() && !PINNED.get() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    public static <T> T readOnly(final Call<T> aCall) throws Throwable {
+        final var previous = READ_ONLY.get();
+        READ_ONLY.set(true);
+        try {
+            return aCall.call();
+        } finally {
+            READ_ONLY.set(previous);
+        }
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(true);
+    }
+
+    public static void clear() {
+        READ_ONLY.remove();
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ReadOnlyUseCaseAspect {
+
+    private final boolean enabled;
+
+    public ReadOnlyUseCaseAspect(@Value("${categories.datasource.replica.enabled:false}") final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Around("execution(* execute(..)) && target(com.fc.kelton.admin.catalogo.application.ReadOnlyUseCase)")
+    public Object route(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!this.enabled) {
+            return joinPoint.proceed();
+        }
+        return DataSourceRouting.readOnly(joinPoint::proceed);
+    }
+}
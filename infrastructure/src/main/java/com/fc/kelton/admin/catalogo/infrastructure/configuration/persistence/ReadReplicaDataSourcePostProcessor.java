@@ -0,0 +1,62 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Component
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor, DisposableBean {
+
+    private static final String PRIMARY_BEAN = "dataSource";
+
+    private final boolean enabled;
+    private final HikariConfig replicaConfig;
+    private HikariDataSource replica;
+
+    public ReadReplicaDataSourcePostProcessor(
+            @Value("${categories.datasource.replica.enabled:false}") final boolean enabled,
+            @Value("${categories.datasource.replica.url:}") final String url,
+            @Value("${categories.datasource.replica.username:}") final String username,
+            @Value("${categories.datasource.replica.password:}") final String password,
+            @Value("${categories.datasource.replica.maximum-pool-size:20}") final int maximumPoolSize,
+            @Value("${categories.datasource.replica.connection-timeout:250ms}") final Duration connectionTimeout
+    ) {
+        if (enabled && url.isBlank()) {
+            throw new IllegalStateException("'categories.datasource.replica.url' is required when the replica is enabled");
+        }
+
+        this.enabled = enabled;
+        this.replicaConfig = new HikariConfig();
+        this.replicaConfig.setPoolName("replica");
+        this.replicaConfig.setJdbcUrl(url);
+        this.replicaConfig.setUsername(username);
+        this.replicaConfig.setPassword(password);
+        this.replicaConfig.setMaximumPoolSize(maximumPoolSize);
+        this.replicaConfig.setConnectionTimeout(connectionTimeout.toMillis());
+        this.replicaConfig.setAutoCommit(false);
+        this.replicaConfig.setReadOnly(true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!this.enabled || !PRIMARY_BEAN.equals(beanName) || !(bean instanceof DataSource primary)) {
+            return bean;
+        }
+
+        this.replica = new HikariDataSource(this.replicaConfig);
+        return new ReadWriteRoutingDataSource(primary, this.replica);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.replica != null) {
+            this.replica.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReadWriteRoutingDataSource(final DataSource aPrimary, final DataSource aReplica) {
+        setTargetDataSources(Map.of(
+                DataSourceRouting.Route.PRIMARY, Objects.requireNonNull(aPrimary),
+                DataSourceRouting.Route.REPLICA, Objects.requireNonNull(aReplica)
+        ));
+        setDefaultTargetDataSource(aPrimary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return DataSourceRouting.current();
+    }
+}
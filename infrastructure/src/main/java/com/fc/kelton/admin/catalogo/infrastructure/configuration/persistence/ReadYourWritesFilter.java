@@ -0,0 +1,94 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final boolean enabled;
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(
+            @Value("${categories.datasource.replica.enabled:false}") final boolean enabled,
+            @Value("${categories.datasource.read-your-writes:5s}") final Duration window
+    ) {
+        this.enabled = enabled;
+        this.window = window;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !this.enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var now = this.clock.millis();
+
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            if (primaryUntil(request) > now) {
+                DataSourceRouting.pinToPrimary();
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                DataSourceRouting.clear();
+            }
+            return;
+        }
+
+        final var aResponse = new ContentCachingResponseWrapper(response);
+        DataSourceRouting.pinToPrimary();
+        try {
+            chain.doFilter(request, aResponse);
+        } finally {
+            DataSourceRouting.clear();
+        }
+
+        if (HttpStatusCode.valueOf(aResponse.getStatus()).is2xxSuccessful()) {
+            final var aCookie = new Cookie(COOKIE, String.valueOf(now + this.window.toMillis()));
+            aCookie.setPath("/");
+            aCookie.setHttpOnly(true);
+            aCookie.setMaxAge((int) Math.max(1, this.window.toSeconds()));
+            response.addCookie(aCookie);
+        }
+        aResponse.copyBodyToResponse();
+    }
+
+    private static long primaryUntil(final HttpServletRequest request) {
+        final var aCookie = WebUtils.getCookie(request, COOKIE);
+        if (aCookie == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(aCookie.getValue());
+        } catch (final NumberFormatException ex) {
+            return 0L;
+        }
+    }
+}
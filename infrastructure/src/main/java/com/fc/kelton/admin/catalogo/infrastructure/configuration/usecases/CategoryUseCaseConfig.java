@@ -1,30 +1,83 @@
 package com.fc.kelton.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fc.kelton.admin.catalogo.application.category.update.DefaultPatchCategoryUseCase;
 import com.fc.kelton.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryUseCase;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.CoalescingCategoryGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.ConcurrencyLimitedCategoryGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.InstrumentedCategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final MeterRegistry meterRegistry,
+            @Value("${categories.cache.enabled:false}") final boolean cacheEnabled,
+            @Value("${categories.cache.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${categories.cache.ttl:10m}") final Duration cacheTtl,
+            @Value("${categories.cache.negative-ttl:5s}") final Duration cacheNegativeTtl,
+            @Value("${categories.cache.listing.maximum-size:1000}") final long listingMaximumSize,
+            @Value("${categories.cache.listing.ttl:1m}") final Duration listingTtl,
+            @Value("${categories.gateway.max-concurrency:10}") final int maxConcurrency,
+            @Value("${categories.gateway.replica.max-concurrency:${categories.gateway.max-concurrency:10}}") final int replicaMaxConcurrency,
+            @Value("${categories.gateway.acquire-timeout:10s}") final Duration acquireTimeout,
+            @Value("${categories.gateway.coalescing.batch-window:0ms}") final Duration batchWindow,
+            @Value("${categories.gateway.coalescing.max-batch-size:100}") final int maxBatchSize
+    ) {
+        final var instrumentedGateway = new InstrumentedCategoryGateway(categoryGateway, meterRegistry);
+        final var limitedGateway = new ConcurrencyLimitedCategoryGateway(instrumentedGateway, maxConcurrency, replicaMaxConcurrency, acquireTimeout)
+                .bindTo(meterRegistry);
+        final var coalescingGateway = new CoalescingCategoryGateway(limitedGateway, batchWindow, maxBatchSize)
+                .bindTo(meterRegistry);
+        this.categoryGateway = cacheEnabled
+                ? new CachedCategoryGateway(
+                        coalescingGateway,
+                        cacheMaximumSize,
+                        cacheTtl,
+                        cacheNegativeTtl,
+                        listingMaximumSize,
+                        listingTtl
+                ).bindTo(meterRegistry)
+                : coalescingGateway;
+    }
+
+    @Bean
+    public CreateCategoryUseCase createCategoryUseCase(final IdGenerator idGenerator) {
+        return new DefaultCreateCategoryUseCase(categoryGateway, idGenerator);
     }
 
     @Bean
-    public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+    public CreateCategoriesUseCase createCategoriesUseCase(
+            final IdGenerator idGenerator,
+            @Value("${categories.batch.chunk-size:500}") final int chunkSize
+    ) {
+        return new DefaultCreateCategoriesUseCase(categoryGateway, idGenerator, chunkSize);
     }
 
     @Bean
@@ -32,11 +85,21 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
@@ -46,4 +109,9 @@ public class CategoryUseCaseConfig {
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
 }
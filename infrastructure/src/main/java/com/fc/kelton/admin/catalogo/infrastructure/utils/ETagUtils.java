@@ -0,0 +1,60 @@
+package com.fc.kelton.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {}
+
+    public static String strong(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static boolean noneMatch(final String ifNoneMatch, final long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return true;
+        }
+
+        final var expected = strong(version);
+        return tags(ifNoneMatch)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .noneMatch(tag -> ANY.equals(tag) || expected.equals(tag));
+    }
+
+    public static boolean unconditional(final String ifMatch) {
+        return ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim());
+    }
+
+    public static List<Long> versions(final String ifMatch) {
+        return tags(ifMatch)
+                .filter(tag -> !tag.startsWith(WEAK_PREFIX))
+                .map(ETagUtils::version)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
+
+    private static Stream<String> tags(final String aHeader) {
+        return Arrays.stream(aHeader.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty());
+    }
+
+    private static Optional<Long> version(final String tag) {
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+}
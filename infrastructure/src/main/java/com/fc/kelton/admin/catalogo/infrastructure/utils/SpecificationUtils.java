@@ -1,15 +1,89 @@
 package com.fc.kelton.admin.catalogo.infrastructure.utils;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence.FullTextFunctionContributor.MATCH_AGAINST;
+
 public final class SpecificationUtils {
 
+    private static final int FULL_TEXT_MIN_TOKEN_SIZE = 3;
+
     private SpecificationUtils () {}
 
     public static <T> Specification<T> like (final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term).toUpperCase());
     }
 
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(prop), value);
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(
+            final String prop,
+            final Y value,
+            final String idProp,
+            final String id,
+            final Sort.Direction direction
+    ) {
+        return (root, query, cb) -> {
+            final var key = root.<Y>get(prop);
+            final var tieBreaker = root.<String>get(idProp);
+
+            if (direction.isDescending()) {
+                return cb.or(
+                        cb.lessThan(key, value),
+                        cb.and(cb.equal(key, value), cb.lessThan(tieBreaker, id))
+                );
+            }
+
+            return cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(tieBreaker, id))
+            );
+        };
+    }
+
+    public static <T> Specification<T> matchAgainst(
+            final String firstProp,
+            final String secondProp,
+            final String booleanQuery,
+            final boolean orderByRelevance
+    ) {
+        return (root, query, cb) -> {
+            final var relevance = cb.function(
+                    MATCH_AGAINST,
+                    Double.class,
+                    root.get(firstProp),
+                    root.get(secondProp),
+                    cb.literal(booleanQuery)
+            );
+
+            if (orderByRelevance) {
+                query.orderBy(cb.desc(relevance));
+            }
+
+            return cb.greaterThan(relevance, 0.0);
+        };
+    }
+
+    public static Optional<String> fullTextQuery(final String terms) {
+        if (terms == null) {
+            return Optional.empty();
+        }
+
+        final var booleanQuery = Arrays.stream(terms.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> token.length() >= FULL_TEXT_MIN_TOKEN_SIZE)
+                .map(token -> "+" + token + "*")
+                .collect(Collectors.joining(" "));
+
+        return booleanQuery.isEmpty() ? Optional.empty() : Optional.of(booleanQuery);
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
@@ -0,0 +1,7 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16);
+UPDATE category SET id_bin = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE category DROP PRIMARY KEY;
+ALTER TABLE category DROP COLUMN id;
+ALTER TABLE category ALTER COLUMN id_bin RENAME TO id;
+ALTER TABLE category ALTER COLUMN id SET NOT NULL;
+ALTER TABLE category ADD PRIMARY KEY (id);
@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX idx_category_name_description ON category (name, description);
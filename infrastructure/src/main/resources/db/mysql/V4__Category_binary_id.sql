@@ -0,0 +1,4 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE category SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE category DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE category CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
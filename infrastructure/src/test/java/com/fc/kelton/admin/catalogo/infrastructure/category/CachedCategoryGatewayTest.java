@@ -0,0 +1,259 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CachedCategoryGateway cachedGateway;
+
+    @BeforeEach
+    public void setUp() {
+        cachedGateway = new CachedCategoryGateway(categoryGateway, 100, Duration.ofMinutes(10), Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallsFindByIdTwice_shouldHitTheDatabaseOnce() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstResult = cachedGateway.findById(expectedId).get();
+        final var secondResult = cachedGateway.findById(expectedId).get();
+
+        Assertions.assertEquals(expectedId, secondResult.getId());
+        Assertions.assertNotSame(firstResult, secondResult);
+        Mockito.verify(categoryGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindByIdTwice_shouldNegativeCacheTheMiss() {
+        final var expectedId = CategoryID.from("123");
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(cachedGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(cachedGateway.findById(expectedId).isEmpty());
+
+        Mockito.verify(categoryGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenAPartiallyCachedBatch_whenCallsFindAllByIdsTwice_shouldLoadOnlyTheUncachedIdsOnce() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aMissingId = CategoryID.from("123");
+
+        Mockito.when(categoryGateway.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        Mockito.when(categoryGateway.findAllByIds(List.of(aMissingId))).thenReturn(List.of());
+
+        cachedGateway.findById(aCategory.getId());
+
+        final var firstResult = cachedGateway.findAllByIds(List.of(aCategory.getId(), aMissingId));
+        final var secondResult = cachedGateway.findAllByIds(List.of(aCategory.getId(), aMissingId));
+
+        Assertions.assertEquals(List.of(aCategory.getId()), firstResult.stream().map(Category::getId).toList());
+        Assertions.assertEquals(List.of(aCategory.getId()), secondResult.stream().map(Category::getId).toList());
+        Mockito.verify(categoryGateway, times(1)).findAllByIds(List.of(aMissingId));
+    }
+
+    @Test
+    public void givenANegativeCachedId_whenCallsCreate_shouldInvalidateTheMiss() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(aCategory));
+        Mockito.when(categoryGateway.create(any())).thenReturn(aCategory);
+
+        Assertions.assertTrue(cachedGateway.findById(expectedId).isEmpty());
+
+        cachedGateway.create(aCategory);
+
+        Assertions.assertTrue(cachedGateway.findById(expectedId).isPresent());
+        Mockito.verify(categoryGateway, times(2)).findById(expectedId);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdateOrDelete_shouldInvalidateTheEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        Mockito.when(categoryGateway.update(any())).thenReturn(aCategory);
+
+        cachedGateway.findById(expectedId);
+        cachedGateway.update(aCategory);
+        cachedGateway.findById(expectedId);
+        cachedGateway.deleteById(expectedId);
+        cachedGateway.findById(expectedId);
+
+        Mockito.verify(categoryGateway, times(3)).findById(expectedId);
+        Mockito.verify(categoryGateway, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    public void givenAMeterRegistry_whenCallsFindById_shouldRecordHitsAndMisses() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+        final var registry = new SimpleMeterRegistry();
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        cachedGateway.bindTo(registry);
+        cachedGateway.findById(expectedId);
+        cachedGateway.findById(expectedId);
+
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "categories.by-id").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "categories.by-id").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    public void givenEquivalentFirstPageQueries_whenCallsFindAll_shouldQueryTheDatabaseOnce() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedPagination = new Pagination<>(0, 10, 1, List.of(aCategory));
+
+        Mockito.when(categoryGateway.findAll(any())).thenReturn(expectedPagination);
+
+        cachedGateway.findAll(new CategorySearchQuery(0, 10, "Filmes", "name", "asc"));
+        final var actualResult = cachedGateway.findAll(new CategorySearchQuery(0, 10, "filmes", "name", "ASC"));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertNotSame(aCategory, actualResult.items().get(0));
+        Mockito.verify(categoryGateway, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedFirstPage_whenAnyWriteHappens_shouldServeAFreshPage() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        Mockito.when(categoryGateway.create(any())).thenReturn(aCategory);
+
+        cachedGateway.findAll(aQuery);
+        cachedGateway.create(aCategory);
+        cachedGateway.findAll(aQuery);
+        cachedGateway.deleteById(aCategory.getId());
+        cachedGateway.findAll(aQuery);
+
+        Mockito.verify(categoryGateway, times(3)).findAll(aQuery);
+    }
+
+    @Test
+    public void givenAPageOtherThanTheFirst_whenCallsFindAll_shouldAlwaysDelegate() {
+        final var aQuery = new CategorySearchQuery(1, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(1, 10, 0, List.of()));
+
+        cachedGateway.findAll(aQuery);
+        cachedGateway.findAll(aQuery);
+
+        Mockito.verify(categoryGateway, times(2)).findAll(aQuery);
+    }
+
+    @Test
+    public void givenEquivalentFirstPageQueries_whenCallsFindSummaries_shouldQueryTheDatabaseOnce() {
+        final var aSummary = CategorySummary.from(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var expectedPagination = new Pagination<>(0, 10, 1, List.of(aSummary));
+
+        Mockito.when(categoryGateway.findSummaries(any())).thenReturn(expectedPagination);
+
+        cachedGateway.findSummaries(summaryQuery(0, "Filmes", "asc", null, Set.of(CategorySummary.Field.NAME)));
+        final var actualResult = cachedGateway.findSummaries(summaryQuery(0, "filmes", "ASC", null, Set.of(CategorySummary.Field.NAME)));
+
+        Assertions.assertEquals(expectedPagination, actualResult);
+        Mockito.verify(categoryGateway, times(1)).findSummaries(any());
+    }
+
+    @Test
+    public void givenACachedSummaryPage_whenAnyWriteHappens_shouldServeAFreshPage() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aQuery = summaryQuery(0, "", "asc", null, Set.of(CategorySummary.Field.NAME));
+
+        Mockito.when(categoryGateway.findSummaries(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        Mockito.when(categoryGateway.create(any())).thenReturn(aCategory);
+
+        cachedGateway.findSummaries(aQuery);
+        cachedGateway.findSummaries(aQuery);
+        cachedGateway.create(aCategory);
+        cachedGateway.findSummaries(aQuery);
+        cachedGateway.patch(CategoryPatch.with(aCategory.getId(), null, Set.of(CategoryPatch.Field.NAME), "Cinema", null, true));
+        cachedGateway.findSummaries(aQuery);
+        cachedGateway.deleteAllById(List.of(aCategory.getId()));
+        cachedGateway.findSummaries(aQuery);
+
+        Mockito.verify(categoryGateway, times(4)).findSummaries(aQuery);
+    }
+
+    @Test
+    public void givenAPageOtherThanTheFirstOrACursor_whenCallsFindSummaries_shouldAlwaysDelegate() {
+        final var aSecondPage = summaryQuery(1, "", "asc", null, Set.of(CategorySummary.Field.NAME));
+        final var aCursorPage = summaryQuery(0, "", "asc", "Filmes|123", Set.of(CategorySummary.Field.NAME));
+
+        Mockito.when(categoryGateway.findSummaries(any())).thenReturn(new Pagination<>(1, 10, 0, List.of()));
+
+        cachedGateway.findSummaries(aSecondPage);
+        cachedGateway.findSummaries(aSecondPage);
+        cachedGateway.findSummaries(aCursorPage);
+        cachedGateway.findSummaries(aCursorPage);
+
+        Mockito.verify(categoryGateway, times(2)).findSummaries(aSecondPage);
+        Mockito.verify(categoryGateway, times(2)).findSummaries(aCursorPage);
+    }
+
+    @Test
+    public void givenDifferentFieldSets_whenCallsFindSummaries_shouldCacheEachProjectionSeparately() {
+        final var aNameOnlyQuery = summaryQuery(0, "", "asc", null, Set.of(CategorySummary.Field.NAME));
+        final var aNameAndDescriptionQuery = summaryQuery(
+                0, "", "asc", null, Set.of(CategorySummary.Field.NAME, CategorySummary.Field.DESCRIPTION)
+        );
+
+        Mockito.when(categoryGateway.findSummaries(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        cachedGateway.findSummaries(aNameOnlyQuery);
+        cachedGateway.findSummaries(aNameAndDescriptionQuery);
+        cachedGateway.findSummaries(aNameOnlyQuery);
+        cachedGateway.findSummaries(aNameAndDescriptionQuery);
+
+        Mockito.verify(categoryGateway, times(1)).findSummaries(aNameOnlyQuery);
+        Mockito.verify(categoryGateway, times(1)).findSummaries(aNameAndDescriptionQuery);
+    }
+
+    private static CategorySearchQuery summaryQuery(
+            final int page,
+            final String terms,
+            final String direction,
+            final String after,
+            final Set<CategorySummary.Field> fields
+    ) {
+        return new CategorySearchQuery(page, 10, terms, "name", direction, after, TotalKind.EXACT, fields);
+    }
+}
@@ -2,15 +2,25 @@ package com.fc.kelton.admin.catalogo.infrastructure.category;
 
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
 import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
 import com.fc.kelton.admin.catalogo.MySQLGatewayTest;
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.Set;
 
 
 @MySQLGatewayTest
@@ -22,6 +32,12 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -57,6 +73,140 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldIssueASingleInsert() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+
+        categoryMySQLGateway.create(aCategory);
+        categoryRepository.flush();
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_shouldPersistEveryCategory() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, false);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryMySQLGateway.createAll(List.of(filmes, series, documentarios));
+
+        Assertions.assertEquals(3, categoryRepository.count());
+        Assertions.assertEquals(3, actualCategories.size());
+        Assertions.assertEquals(filmes.getId(), actualCategories.get(0).getId());
+        Assertions.assertEquals(series.getId(), actualCategories.get(1).getId());
+        Assertions.assertEquals(documentarios.getId(), actualCategories.get(2).getId());
+
+        final var actualEntity = categoryRepository.findById(documentarios.getId().getValue()).get();
+
+        Assertions.assertEquals(documentarios.getName(), actualEntity.getName());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertEquals(documentarios.getCreatedAt(), actualEntity.getCreatedAt());
+        Assertions.assertEquals(documentarios.getDeletedAt(), actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenAPrePersistedCategory_whenCallsPatch_shouldIssueASingleUpdate() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        statistics.clear();
+
+        final var aPatch = CategoryPatch.with(
+                aCategory.getId(),
+                aCategory.getUpdatedAt(),
+                Set.of(CategoryPatch.Field.NAME, CategoryPatch.Field.ACTIVE),
+                "Cinema",
+                null,
+                false
+        );
+
+        final var actualRows = categoryMySQLGateway.patch(aPatch);
+
+        Assertions.assertEquals(1, actualRows);
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+
+        Assertions.assertEquals("Cinema", actualEntity.getName());
+        Assertions.assertEquals(aCategory.getDescription(), actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertEquals(aPatch.updatedAt(), actualEntity.getUpdatedAt());
+        Assertions.assertEquals(aPatch.updatedAt(), actualEntity.getDeletedAt());
+        Assertions.assertEquals(aCategory.getVersion() + 1, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenOtherManagedCategories_whenCallsPatch_shouldDetachOnlyThePatchedOne() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "Uma categoria assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(series));
+
+        final var managedSeries = entityManager.find(CategoryJpaEntity.class, series.getId().getValue());
+
+        categoryMySQLGateway.patch(CategoryPatch.with(
+                filmes.getId(),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true
+        ));
+
+        Assertions.assertTrue(entityManager.contains(managedSeries));
+        Assertions.assertEquals("Cinema", categoryRepository.findById(filmes.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsPatch_shouldNotUpdateAnyRow() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aPatch = CategoryPatch.with(
+                aCategory.getId(),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true,
+                aCategory.getVersion() + 1
+        );
+
+        Assertions.assertEquals(0, categoryMySQLGateway.patch(aPatch));
+        Assertions.assertEquals("Filmes", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenAStaleUpdatedAt_whenCallsPatch_shouldNotUpdateAnyRow() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aPatch = CategoryPatch.with(
+                aCategory.getId(),
+                aCategory.getUpdatedAt().minusSeconds(1),
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true
+        );
+
+        Assertions.assertEquals(0, categoryMySQLGateway.patch(aPatch));
+        Assertions.assertEquals("Filmes", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnUpdatedCategory() {
         final var expectedName = "Filmes";
@@ -98,6 +248,34 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenAStaleVersion_whenCallsUpdate_shouldThrowConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedErrorMessage = "Category with ID %s was modified by another request"
+                .formatted(aCategory.getId().getValue());
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryMySQLGateway.patch(CategoryPatch.with(
+                aCategory.getId(),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true
+        ));
+
+        final var aStaleCategory = aCategory.clone().update("Filmes", null, true);
+
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> categoryMySQLGateway.update(aStaleCategory)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals("Cinema", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var aCategory = Category.newCategory("Filmes", null, true);
@@ -113,6 +291,64 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAPrePersistedCategory_whenCallsDeleteById_shouldIssueASingleDelete() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        statistics.clear();
+
+        categoryMySQLGateway.deleteById(aCategory.getId());
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldReturnAffectedRows() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualDeleted = categoryMySQLGateway.deleteAllById(List.of(
+                filmes.getId(),
+                series.getId(),
+                CategoryID.from("123")
+        ));
+
+        Assertions.assertEquals(2, actualDeleted);
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(documentarios.getId().getValue()));
+    }
+
+    @Test
+    public void givenANonUuidCategoryId_whenCallsCreate_shouldFailInsteadOfWritingAnEmptyId() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anInvalid = Category.with(
+                CategoryID.from("invalid"),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
+        );
+
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            categoryMySQLGateway.create(anInvalid);
+            categoryRepository.flush();
+        });
+    }
+
     @Test
     public void givenAnInvalidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         Assertions.assertEquals(0, categoryRepository.count());
@@ -160,6 +396,34 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertTrue(actualCategory.isEmpty());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnFoundInASingleQuery() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+        statistics.clear();
+
+        final var actualCategories = categoryMySQLGateway.findAllByIds(List.of(
+                filmes.getId(),
+                series.getId(),
+                filmes.getId(),
+                CategoryID.from("123")
+        ));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(
+                Set.of(filmes.getId(), series.getId()),
+                Set.copyOf(actualCategories.stream().map(Category::getId).toList())
+        );
+    }
+
     @Test
     public void givenAPrePersistedCategories_whenCallsFindByAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -323,4 +587,217 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void givenFollowCursor_whenCallsFindAllAfterCursor_shouldSeekNextPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll((List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        )));
+
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        var actualResult = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalKind.EXACT));
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalKind.EXACT));
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor", TotalKind.EXACT);
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenSkippedTotal_whenCallsFindAll_shouldReturnHasNextWithoutCounting() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll((List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        )));
+
+        var actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalKind.SKIPPED));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(TotalKind.SKIPPED, actualResult.totalKind());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(1, 2, "", "name", "asc", null, TotalKind.SKIPPED));
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenEstimatedTotalOnAnUnsupportedDatabase_whenCallsFindAll_shouldFallbackToExactTotal() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAll((List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        )));
+
+        final var actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalKind.ESTIMATED));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(TotalKind.EXACT, actualResult.totalKind());
+        Assertions.assertTrue(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAnActiveFilter_whenCallsFindAll_shouldReturnAndCountOnlyMatchingCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll((List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        )));
+
+        var actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalKind.ESTIMATED, null, true));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(TotalKind.EXACT, actualResult.totalKind());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertTrue(actualResult.hasNext());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalKind.EXACT, null, true));
+
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertFalse(actualResult.hasNext());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 10, "", "name", "asc", null, TotalKind.EXACT, null, false));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullTextSearch_whenCallsFindAll_shouldFallbackToNameOrdering() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var documentarios = Category.newCategory("Documentarios", "A categoria menos assistida", true);
+
+        categoryRepository.saveAll((List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentarios)
+        )));
+
+        final var actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 10, "assistida", "relevance", "asc"));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAPrePersistedCategories_whenCallsFindSummaries_shouldProjectRowsWithoutLoadingEntities() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var documentarios = Category.newCategory("Documentarios", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualResult = categoryMySQLGateway.findSummaries(
+                new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(
+                List.of(CategorySummary.from(documentarios), CategorySummary.from(filmes)),
+                actualResult.items()
+        );
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenTimestampFields_whenCallsFindSummaries_shouldProjectUpdatedAndDeletedAt() {
+        final var documentarios = Category.newCategory("Documentarios", null, false);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(documentarios));
+
+        final var actualResult = categoryMySQLGateway.findSummaries(new CategorySearchQuery(
+                0, 10, "", "name", "asc", null, TotalKind.EXACT,
+                Set.of(CategorySummary.Field.UPDATED_AT, CategorySummary.Field.DELETED_AT)));
+
+        final var actualSummary = actualResult.items().get(0);
+
+        Assertions.assertEquals(documentarios.getId(), actualSummary.id());
+        Assertions.assertEquals(documentarios.getUpdatedAt(), actualSummary.updatedAt());
+        Assertions.assertEquals(documentarios.getDeletedAt(), actualSummary.deletedAt());
+        Assertions.assertNull(actualSummary.description());
+        Assertions.assertNull(actualSummary.isActive());
+        Assertions.assertNull(actualSummary.createdAt());
+    }
+
+    @Test
+    public void givenSparseFields_whenCallsFindSummaries_shouldLeaveOmittedColumnsNull() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+
+        final var actualResult = categoryMySQLGateway.findSummaries(new CategorySearchQuery(
+                0, 10, "", "createdAt", "asc", null, TotalKind.EXACT, Set.of(CategorySummary.Field.NAME)));
+
+        final var actualSummary = actualResult.items().get(0);
+
+        Assertions.assertEquals(filmes.getId(), actualSummary.id());
+        Assertions.assertEquals(filmes.getName(), actualSummary.name());
+        Assertions.assertEquals(filmes.getCreatedAt(), actualSummary.createdAt());
+        Assertions.assertNull(actualSummary.description());
+        Assertions.assertNull(actualSummary.isActive());
+        Assertions.assertNull(actualSummary.updatedAt());
+    }
 }
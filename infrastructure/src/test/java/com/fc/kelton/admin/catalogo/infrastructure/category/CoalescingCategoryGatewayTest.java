@@ -0,0 +1,92 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+public class CoalescingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenConcurrentLookupsOfTheSameId_whenCallsFindById_shouldHitTheDatabaseOnce() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var registry = new SimpleMeterRegistry();
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return Optional.of(aCategory);
+        });
+
+        final var coalescingGateway = new CoalescingCategoryGateway(categoryGateway, Duration.ZERO, 100)
+                .bindTo(registry);
+
+        final var leader = CompletableFuture.supplyAsync(() -> coalescingGateway.findById(expectedId));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        final var followers = List.of(
+                CompletableFuture.supplyAsync(() -> coalescingGateway.findById(expectedId)),
+                CompletableFuture.supplyAsync(() -> coalescingGateway.findById(expectedId))
+        );
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("categories.gateway.lookups.coalesced").functionCounter().count() < 2
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        final var leaderResult = leader.get(5, TimeUnit.SECONDS).get();
+        for (final var follower : followers) {
+            final var followerResult = follower.get(5, TimeUnit.SECONDS).get();
+            Assertions.assertEquals(expectedId, followerResult.getId());
+            Assertions.assertNotSame(leaderResult, followerResult);
+        }
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(expectedId);
+        Assertions.assertEquals(0, registry.get("categories.gateway.lookups.in-flight").gauge().value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenLookupsWithinTheBatchWindow_whenCallsFindById_shouldLoadThemInOneQuery() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var anIds = ArgumentCaptor.forClass(Collection.class);
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of(filmes, series));
+
+        final var coalescingGateway = new CoalescingCategoryGateway(categoryGateway, Duration.ofSeconds(5), 2);
+
+        final var actualFilmes = CompletableFuture.supplyAsync(() -> coalescingGateway.findById(filmes.getId()));
+        final var actualSeries = CompletableFuture.supplyAsync(() -> coalescingGateway.findById(series.getId()));
+
+        Assertions.assertEquals(filmes.getId(), actualFilmes.get(5, TimeUnit.SECONDS).get().getId());
+        Assertions.assertEquals(series.getId(), actualSeries.get(5, TimeUnit.SECONDS).get().getId());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllByIds(anIds.capture());
+        Mockito.verify(categoryGateway, Mockito.never()).findById(Mockito.any());
+        Assertions.assertEquals(Set.of(filmes.getId(), series.getId()), Set.copyOf(anIds.getValue()));
+    }
+}
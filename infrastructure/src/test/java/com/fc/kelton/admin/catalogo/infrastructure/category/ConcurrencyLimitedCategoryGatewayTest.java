@@ -0,0 +1,83 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
+import com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence.DataSourceRouting;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenEveryPermitInUse_whenCallsFindById_shouldFailAfterTheAcquireTimeout() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var otherId = CategoryID.from("123");
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return Optional.of(aCategory);
+        });
+
+        final var limitedGateway = new ConcurrencyLimitedCategoryGateway(categoryGateway, 1, Duration.ofMillis(50));
+
+        final var holder = CompletableFuture.supplyAsync(() -> limitedGateway.findById(expectedId));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(UnavailableException.class, () -> limitedGateway.findById(otherId));
+
+        release.countDown();
+        Assertions.assertEquals(expectedId, holder.get(5, TimeUnit.SECONDS).get().getId());
+
+        Mockito.when(categoryGateway.findById(otherId)).thenReturn(Optional.empty());
+        Assertions.assertTrue(limitedGateway.findById(otherId).isEmpty());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(otherId);
+    }
+
+    @Test
+    public void givenEveryPrimaryPermitInUse_whenCallsFindByIdOnTheReplica_shouldNotWaitForThePrimary() throws Throwable {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var otherId = CategoryID.from("123");
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return Optional.of(aCategory);
+        });
+        Mockito.when(categoryGateway.findById(otherId)).thenReturn(Optional.empty());
+
+        final var limitedGateway = new ConcurrencyLimitedCategoryGateway(categoryGateway, 1, 1, Duration.ofMillis(50));
+
+        final var holder = CompletableFuture.supplyAsync(() -> limitedGateway.findById(expectedId));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(UnavailableException.class, () -> limitedGateway.findById(otherId));
+        Assertions.assertTrue(DataSourceRouting.readOnly(() -> limitedGateway.findById(otherId)).isEmpty());
+
+        release.countDown();
+        Assertions.assertEquals(expectedId, holder.get(5, TimeUnit.SECONDS).get().getId());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(otherId);
+    }
+}
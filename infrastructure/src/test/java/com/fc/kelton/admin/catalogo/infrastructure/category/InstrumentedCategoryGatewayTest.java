@@ -0,0 +1,107 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category;
+
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private SimpleMeterRegistry registry;
+
+    private InstrumentedCategoryGateway instrumentedGateway;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        instrumentedGateway = new InstrumentedCategoryGateway(categoryGateway, registry);
+    }
+
+    @Test
+    public void givenAListing_whenCallsFindAll_shouldTimeTheCallAndRecordTheResultSize() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true)
+        );
+
+        Mockito.when(categoryGateway.findAll(aQuery))
+                .thenReturn(new Pagination<>(0, 10, 2, categories));
+
+        instrumentedGateway.findAll(aQuery);
+
+        final var actualTimer = registry.get("categories.gateway.db.calls")
+                .tag("method", "findAll")
+                .tag("outcome", "success")
+                .timer();
+        final var actualResults = registry.get("categories.gateway.db.results")
+                .tag("method", "findAll")
+                .summary();
+
+        Assertions.assertEquals(1, actualTimer.count());
+        Assertions.assertEquals(1, actualResults.count());
+        Assertions.assertEquals(2.0, actualResults.totalAmount());
+    }
+
+    @Test
+    public void givenAFailingGateway_whenCallsFindById_shouldCountTheExceptionAndRethrow() {
+        final var expectedId = CategoryID.from("123");
+
+        Mockito.when(categoryGateway.findById(expectedId))
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> instrumentedGateway.findById(expectedId));
+
+        final var actualErrors = registry.get("categories.gateway.db.errors")
+                .tag("method", "findById")
+                .tag("exception", "IllegalStateException")
+                .counter();
+        final var actualTimer = registry.get("categories.gateway.db.calls")
+                .tag("method", "findById")
+                .tag("outcome", "exception")
+                .timer();
+
+        Assertions.assertEquals(1.0, actualErrors.count());
+        Assertions.assertEquals(1, actualTimer.count());
+    }
+
+    @Test
+    public void givenTheDecoratorChainAboveTheGateway_whenCallsFindByIdTwice_shouldTimeOnlyTheDatabaseCall() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var limitedGateway = new ConcurrencyLimitedCategoryGateway(instrumentedGateway, 1, Duration.ofSeconds(1));
+        final var coalescingGateway = new CoalescingCategoryGateway(limitedGateway, Duration.ZERO, 100);
+        final var cachedGateway = new CachedCategoryGateway(
+                coalescingGateway, 100, Duration.ofMinutes(10), Duration.ofMinutes(1), 100, Duration.ofMinutes(1)
+        );
+
+        Mockito.when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        cachedGateway.findById(expectedId);
+        cachedGateway.findById(expectedId);
+
+        final var actualTimer = registry.get("categories.gateway.db.calls")
+                .tag("method", "findById")
+                .tag("outcome", "success")
+                .timer();
+
+        Assertions.assertEquals(1, actualTimer.count());
+    }
+}
@@ -2,17 +2,35 @@ package com.fc.kelton.admin.catalogo.infrastructure.category.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fc.kelton.admin.catalogo.ControllerTest;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesItemOutput;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesOutput;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fc.kelton.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsCommand;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsOutput;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryOutput;
+import com.fc.kelton.admin.catalogo.application.category.update.PatchCategoryUseCase;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fc.kelton.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.domain.Pagination;
+import com.fc.kelton.admin.catalogo.domain.TotalKind;
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.domain.category.CategoryID;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySummary;
+import com.fc.kelton.admin.catalogo.domain.exceptions.ConflictException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
 import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fc.kelton.admin.catalogo.domain.validation.Error;
 import com.fc.kelton.admin.catalogo.domain.validation.handler.Notification;
 import com.fc.kelton.admin.catalogo.infrastructure.api.CategoryApi;
@@ -30,7 +48,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 @ControllerTest(controllers = CategoryApi.class)
 public class CategoryAPITest {
@@ -47,12 +69,27 @@ public class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -87,6 +124,42 @@ public class CategoryAPITest {
                 ));
     }
 
+    @Test
+    public void givenASaturatedGateway_whenCallsAnyWrite_shouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        final var expectedMessage = "Timed out waiting for a category database slot";
+
+        Mockito.when(createCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(UnavailableException.with(expectedMessage));
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(UnavailableException.with(expectedMessage));
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(UnavailableException.with(expectedMessage));
+
+        final var requests = List.of(
+                MockMvcRequestBuilders.post("/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(new CreateCategoryApiInput("Filmes", null, true))),
+                MockMvcRequestBuilders.put("/categories/{id}", "123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(new UpdateCategoryApiInput("Filmes", null, true))),
+                MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"is_active": false}
+                                """)
+        );
+
+        for (final var request : requests) {
+            this.mvc.perform(request)
+                    .andDo(MockMvcResultHandlers.print())
+                    .andExpectAll(
+                            MockMvcResultMatchers.status().isServiceUnavailable(),
+                            MockMvcResultMatchers.header().string("Retry-After", "1"),
+                            MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage))
+                    );
+        }
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception {
         final String expectedName = null;
@@ -180,6 +253,7 @@ public class CategoryAPITest {
                         MockMvcResultMatchers.status().isOk(),
                         MockMvcResultMatchers.header().string("Location", Matchers.nullValue()),
                         MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE),
+                        MockMvcResultMatchers.header().string("ETag", "\"0\""),
                         MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)),
                         MockMvcResultMatchers.jsonPath("$.name", Matchers.equalTo(expectedName)),
                         MockMvcResultMatchers.jsonPath("$.description", Matchers.equalTo(expectedDescription)),
@@ -193,6 +267,27 @@ public class CategoryAPITest {
                 .execute(Mockito.eq(expectedId));
     }
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetCategory_shouldReturnNotModifiedWithoutBody() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", "W/\"0\"");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isNotModified(),
+                        MockMvcResultMatchers.header().string("ETag", "\"0\""),
+                        MockMvcResultMatchers.content().string("")
+                );
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 123 was not found";
@@ -209,6 +304,34 @@ public class CategoryAPITest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenValidIds_whenCallsGetCategoriesByIds_shouldReturnItemsAndMissingIds() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedMissing = "123";
+
+        Mockito.when(getCategoriesByIdsUseCase.execute(Mockito.any()))
+                .thenReturn(GetCategoriesByIdsOutput.from(List.of(CategoryOutput.from(aCategory)), List.of(expectedMissing)));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("ids", expectedId, expectedMissing)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)),
+                        MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(expectedId)),
+                        MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Filmes")),
+                        MockMvcResultMatchers.jsonPath("$.missing[0]", Matchers.equalTo(expectedMissing))
+                );
+
+        Mockito.verify(getCategoriesByIdsUseCase, Mockito.times(1))
+                .execute(Mockito.eq(GetCategoriesByIdsCommand.with(List.of(expectedId, expectedMissing))));
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedId = "123";
@@ -217,7 +340,7 @@ public class CategoryAPITest {
         final var expectedIsActive = true;
 
         Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
-                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId)));
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, 4L)));
 
         final var aCommand = new UpdateCategoryApiInput(expectedName, expectedDescription, expectedIsActive);
 
@@ -230,6 +353,7 @@ public class CategoryAPITest {
                 .andExpectAll(
                         MockMvcResultMatchers.status().isOk(),
                         MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE),
+                        MockMvcResultMatchers.header().string("ETag", "\"4\""),
                         MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId))
                 );
 
@@ -241,6 +365,101 @@ public class CategoryAPITest {
                 ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = "123";
+        final var expectedMessage = "Category with ID 123 was modified by another request";
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId)));
+
+        final var aCommand = new UpdateCategoryApiInput("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"3\"")
+                .content(mapper.writeValueAsString(aCommand));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isPreconditionFailed(),
+                        MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage))
+                );
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(3L, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAWeakIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailedWithoutUpdating() throws Exception {
+        final var expectedId = "123";
+
+        final var aCommand = new UpdateCategoryApiInput("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "W/\"3\"")
+                .content(mapper.writeValueAsString(aCommand));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAnIfMatchList_whenCallsUpdateCategory_shouldExpectTheListedTagMatchingTheCurrentVersion() throws Exception {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedVersion = aCategory.getVersion();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, expectedVersion + 1)));
+
+        final var aCommand = new UpdateCategoryApiInput("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"7\", W/\"%d\", \"%d\"".formatted(expectedVersion + 1, expectedVersion))
+                .content(mapper.writeValueAsString(aCommand));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string("ETag", "\"%d\"".formatted(expectedVersion + 1))
+                );
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(expectedVersion, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAnIfMatchListWithoutTheCurrentVersion_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var aCommand = new UpdateCategoryApiInput("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"7\", \"8\"")
+                .content(mapper.writeValueAsString(aCommand));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
     @Test
     public void givenCommandWithInvalidID_whenCallsUpdateCategory_shouldReturnNotFoundException() throws Exception {
         final var expectedId = "123";
@@ -308,6 +527,142 @@ public class CategoryAPITest {
                 ));
     }
 
+    @Test
+    public void givenAFieldMask_whenCallsPatchCategory_shouldForwardOnlyPresentFields() throws Exception {
+        final var expectedId = "123";
+        final var expectedUpdatedAt = Instant.parse("2024-01-01T10:00:00.123456Z");
+        final var expectedPatchedAt = Instant.parse("2024-01-01T10:05:00Z");
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(new PatchCategoryOutput(expectedId, expectedPatchedAt)));
+
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"description": null, "is_active": false, "updated_at": "2024-01-01T10:00:00.123456Z"}
+                        """);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().doesNotExist("ETag"),
+                        MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)),
+                        MockMvcResultMatchers.jsonPath("$.updated_at", Matchers.equalTo(expectedPatchedAt.toString()))
+                );
+
+        Mockito.verify(patchCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd ->
+                        Objects.equals(expectedId, cmd.id())
+                                && Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())
+                                && Objects.equals(Set.of(CategoryPatch.Field.DESCRIPTION, CategoryPatch.Field.ACTIVE), cmd.fields())
+                                && cmd.description() == null
+                                && !cmd.isActive()
+                ));
+    }
+
+    @Test
+    public void givenAStalePatch_whenCallsPatchCategory_shouldReturnConflict() throws Exception {
+        final var expectedMessage = "Category with ID 123 was modified by another request";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from("123")));
+
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name": "Cinema", "updated_at": "2024-01-01T10:00:00Z"}
+                        """);
+
+        this.mvc.perform(request)
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isConflict(),
+                        MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage))
+                );
+    }
+
+    @Test
+    public void givenAMatchingIfMatch_whenCallsPatchCategory_shouldExpectThatVersionAndReturnTheNextETag() throws Exception {
+        final var expectedId = "123";
+        final var expectedPatchedAt = Instant.parse("2024-01-01T10:05:00Z");
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(new PatchCategoryOutput(expectedId, expectedPatchedAt)));
+
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"3\"")
+                .content("""
+                        {"name": "Cinema"}
+                        """);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string("ETag", "\"4\""),
+                        MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId))
+                );
+
+        Mockito.verify(patchCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(3L, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAStaleIfMatch_whenCallsPatchCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedMessage = "Category with ID 123 was modified by another request";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from("123")));
+
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"3\"")
+                .content("""
+                        {"name": "Cinema"}
+                        """);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isPreconditionFailed(),
+                        MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage))
+                );
+    }
+
+    @Test
+    public void givenAWeakIfMatch_whenCallsPatchCategory_shouldReturnPreconditionFailedWithoutPatching() throws Exception {
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "W/\"3\"")
+                .content("""
+                        {"name": "Cinema"}
+                        """);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        Mockito.verify(patchCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenANonBooleanIsActive_whenCallsPatchCategory_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"is_active": "nope"}
+                        """);
+
+        this.mvc.perform(request)
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isUnprocessableEntity(),
+                        MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo("'is_active' should be a boolean"))
+                );
+
+        Mockito.verify(patchCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
     @Test
     public void givenAValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
         final var expectedId = "123";
@@ -325,4 +680,342 @@ public class CategoryAPITest {
         Mockito.verify(deleteCategoryUseCase, Mockito.times(1))
                 .execute(Mockito.eq(expectedId));
     }
+
+    @Test
+    public void givenSomeInvalidItems_whenCallsCreateCategories_shouldReturnMultiStatusWithPerItemErrors() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var anInput = List.of(
+                new CreateCategoryApiInput("Filmes", "A categoria mais assistida", null),
+                new CreateCategoryApiInput(null, "Sem nome", true)
+        );
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(CreateCategoriesOutput.from(List.of(
+                        new CreateCategoriesItemOutput(0, "123", List.of()),
+                        new CreateCategoriesItemOutput(1, null, List.of(new Error(expectedErrorMessage)))
+                )));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isMultiStatus(),
+                        MockMvcResultMatchers.jsonPath("$.created", Matchers.equalTo(1)),
+                        MockMvcResultMatchers.jsonPath("$.rejected", Matchers.equalTo(1)),
+                        MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo("123")),
+                        MockMvcResultMatchers.jsonPath("$.items[1].index", Matchers.equalTo(1)),
+                        MockMvcResultMatchers.jsonPath("$.items[1].errors[0].message", Matchers.equalTo(expectedErrorMessage))
+                );
+
+        Mockito.verify(createCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd ->
+                        cmd.items().size() == 2
+                                && Objects.equals("Filmes", cmd.items().get(0).name())
+                                && cmd.items().get(0).isActive()
+                                && cmd.items().get(1).name() == null
+                ));
+    }
+
+    @Test
+    public void givenOnlyValidItems_whenCallsCreateCategories_shouldReturnCreated() throws Exception {
+        final var anInput = List.of(new CreateCategoryApiInput("Filmes", null, true));
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(CreateCategoriesOutput.from(List.of(new CreateCategoriesItemOutput(0, "123", List.of()))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        this.mvc.perform(request)
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isCreated(),
+                        MockMvcResultMatchers.jsonPath("$.created", Matchers.equalTo(1)),
+                        MockMvcResultMatchers.jsonPath("$.rejected", Matchers.equalTo(0))
+                );
+    }
+
+    @Test
+    public void givenAnIdSet_whenCallsDeleteCategories_shouldReturnDeletedCount() throws Exception {
+        Mockito.when(deleteCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(DeleteCategoriesOutput.from(2));
+
+        final var request = MockMvcRequestBuilders.delete("/categories")
+                .queryParam("ids", "123,456")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.deleted", Matchers.equalTo(2))
+                );
+
+        Mockito.verify(deleteCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(List.of("123", "456"), cmd.ids())));
+    }
+
+    @Test
+    public void givenAnEmptyIdSet_whenCallsDeleteCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedMessage = "'ids' should not be empty";
+
+        Mockito.when(deleteCategoriesUseCase.execute(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        final var request = MockMvcRequestBuilders.delete("/categories")
+                .queryParam("ids", "")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isUnprocessableEntity(),
+                        MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedMessage))
+                );
+    }
+
+    @Test
+    public void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTerms = "movies";
+        final var expectedSort = "description";
+        final var expectedDirection = "desc";
+        final var expectedItemsCount = 1;
+        final var expectedTotal = 1;
+        final var expectedCursor = "bmFtZTpBU0M6MTIzOk1vdmllcw";
+
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, TotalKind.EXACT, expectedItems, true, expectedCursor));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("search", expectedTerms)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.current_page", Matchers.equalTo(expectedPage)),
+                        MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)),
+                        MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(expectedTotal)),
+                        MockMvcResultMatchers.jsonPath("$.total_kind", Matchers.equalTo("EXACT")),
+                        MockMvcResultMatchers.jsonPath("$.has_next", Matchers.equalTo(true)),
+                        MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.equalTo(expectedCursor)),
+                        MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(expectedItemsCount)),
+                        MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(aCategory.getId().getValue())),
+                        MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo(aCategory.getName())),
+                        MockMvcResultMatchers.jsonPath("$.items[0].is_active", Matchers.equalTo(aCategory.isActive()))
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query ->
+                        Objects.equals(expectedPage, query.page())
+                                && Objects.equals(expectedPerPage, query.perPage())
+                                && Objects.equals(expectedDirection, query.direction())
+                                && Objects.equals(expectedSort, query.sort())
+                                && Objects.equals(expectedTerms, query.terms())
+                                && query.after() == null
+                                && query.total() == TotalKind.EXACT
+                ));
+    }
+
+    @Test
+    public void givenALargePage_whenCallsListCategories_shouldStreamEveryItem() throws Exception {
+        final var expectedPerPage = 1000;
+
+        final var expectedItems = IntStream.range(0, expectedPerPage)
+                .mapToObj(i -> CategoryListOutput.from(Category.newCategory("Category " + i, null, i % 2 == 0)))
+                .toList();
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, 5000, expectedItems));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(5000)),
+                        MockMvcResultMatchers.jsonPath("$.has_next", Matchers.equalTo(true)),
+                        MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(expectedPerPage)),
+                        MockMvcResultMatchers.jsonPath("$.items[999].name", Matchers.equalTo("Category 999")),
+                        MockMvcResultMatchers.jsonPath("$.items[999].is_active", Matchers.equalTo(false)),
+                        MockMvcResultMatchers.jsonPath("$.items[999].created_at", Matchers.equalTo(expectedItems.get(999).createdAt().toString())),
+                        MockMvcResultMatchers.jsonPath("$.items[999].deleted_at", Matchers.notNullValue())
+                );
+    }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldForwardItToTheQuery() throws Exception {
+        final var expectedCursor = "bmFtZTpBU0M6MTIzOk1vdmllcw";
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("after", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(0)),
+                        MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.nullValue())
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query ->
+                        Objects.equals("name", query.sort())
+                                && Objects.equals("asc", query.direction())
+                                && Objects.equals(expectedCursor, query.after())
+                ));
+    }
+
+    @Test
+    public void givenSkippedTotal_whenCallsListCategories_shouldForwardTheTotalStrategy() throws Exception {
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, TotalKind.SKIPPED, List.of(), false, null));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("total", "skipped")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(-1)),
+                        MockMvcResultMatchers.jsonPath("$.total_kind", Matchers.equalTo("SKIPPED")),
+                        MockMvcResultMatchers.jsonPath("$.has_next", Matchers.equalTo(false))
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> query.total() == TotalKind.SKIPPED));
+    }
+
+    @Test
+    public void givenAnActiveFilter_whenCallsListCategories_shouldForwardItToTheQuery() throws Exception {
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("active", "false")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> Boolean.FALSE.equals(query.active())));
+    }
+
+    @Test
+    public void givenAnInvalidTotal_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedMessage = "'total' must be one of exact, estimated or skipped";
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("total", "approximate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isUnprocessableEntity(),
+                        MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedMessage))
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenSparseFields_whenCallsListCategories_shouldWriteOnlyTheRequestedFields() throws Exception {
+        final var expectedId = CategoryID.from("123");
+        final var expectedItems = List.of(new CategoryListOutput(expectedId, "Movies", null, null, null, null, null));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("fields", "id,name")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo("123")),
+                        MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Movies")),
+                        MockMvcResultMatchers.jsonPath("$.items[0].description").doesNotExist(),
+                        MockMvcResultMatchers.jsonPath("$.items[0].is_active").doesNotExist(),
+                        MockMvcResultMatchers.jsonPath("$.items[0].created_at").doesNotExist()
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> Set.of(CategorySummary.Field.NAME).equals(query.fields())));
+    }
+
+    @Test
+    public void givenTimestampFields_whenCallsListCategories_shouldWriteUpdatedAndDeletedAt() throws Exception {
+        final var expectedId = CategoryID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2024-01-01T10:00:00.123456Z");
+        final var expectedDeletedAt = Instant.parse("2024-01-02T10:00:00.123456Z");
+        final var expectedItems = List.of(new CategoryListOutput(expectedId, "Movies", null, false, null, expectedUpdatedAt, expectedDeletedAt));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("fields", "updated_at,deleted_at")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo("123")),
+                        MockMvcResultMatchers.jsonPath("$.items[0].updated_at", Matchers.equalTo(expectedUpdatedAt.toString())),
+                        MockMvcResultMatchers.jsonPath("$.items[0].deleted_at", Matchers.equalTo(expectedDeletedAt.toString())),
+                        MockMvcResultMatchers.jsonPath("$.items[0].name").doesNotExist(),
+                        MockMvcResultMatchers.jsonPath("$.items[0].is_active").doesNotExist()
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> Set.of(CategorySummary.Field.UPDATED_AT, CategorySummary.Field.DELETED_AT).equals(query.fields())));
+    }
+
+    @Test
+    public void givenAnUnknownField_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedMessage = "'fields' must be a list of id, name, description, is_active, created_at, updated_at or deleted_at";
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("fields", "name,password")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isUnprocessableEntity(),
+                        MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedMessage))
+                );
+
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
 }
@@ -2,10 +2,12 @@ package com.fc.kelton.admin.catalogo.infrastructure.category.persistence;
 
 import com.fc.kelton.admin.catalogo.domain.category.Category;
 import com.fc.kelton.admin.catalogo.MySQLGatewayTest;
+import jakarta.persistence.EntityManager;
 import org.hibernate.PropertyValueException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
 
 @MySQLGatewayTest
@@ -14,6 +16,46 @@ public class CategoryRepositoryTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenAValidCategory_whenCallsSave_shouldStoreIdAsBinaryAndReadItBackCanonical() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var actualLength = entityManager
+                .createNativeQuery("SELECT OCTET_LENGTH(id) FROM category")
+                .getSingleResult();
+
+        Assertions.assertEquals(16, ((Number) actualLength).intValue());
+
+        entityManager.clear();
+
+        final var actualEntity = categoryRepository.findById(expectedId.toUpperCase()).get();
+
+        Assertions.assertEquals(expectedId, actualEntity.getId());
+    }
+
+    @Test
+    public void givenANonUuidId_whenCallsFindById_shouldRejectItInsteadOfQueryingAnEmptyId() {
+        final var expectedMessage = "'id' should be a UUID but was 'not-an-uuid'";
+
+        final var actualException = Assertions.assertThrows(
+                RuntimeException.class,
+                () -> categoryRepository.findById("not-an-uuid")
+        );
+
+        final var actualCause = Assertions.assertInstanceOf(
+                IllegalArgumentException.class,
+                NestedExceptionUtils.getMostSpecificCause(actualException)
+        );
+
+        Assertions.assertEquals(expectedMessage, actualCause.getMessage());
+    }
+
     @Test
     public void givenAnInvalidNullName_whenCallsSave_shouldReturnError() {
         final var expectedPropertyName = "name";
@@ -0,0 +1,242 @@
+package com.fc.kelton.admin.catalogo.infrastructure.category.search;
+
+import com.fc.kelton.admin.catalogo.MySQLGatewayTest;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryPatch;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.exceptions.DomainException;
+import com.fc.kelton.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+public class CategorySearchIndexTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategorySearchIndex searchIndex;
+    private CategoryMySQLGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.searchIndex = new CategorySearchIndex(categoryRepository, true);
+        this.categoryGateway = new CategoryMySQLGateway(categoryRepository, false, searchIndex);
+    }
+
+    @Test
+    public void givenAPrePersistedCategories_whenRebuildAndSearchByPrefix_shouldReturnMatchesIgnoringAccents() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        searchIndex.rebuild();
+
+        final var actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "documentario ASSIST", "name", "asc"));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+
+        final var actualSeries = categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "serie", "name", "asc"));
+
+        Assertions.assertEquals(1, actualSeries.total());
+        Assertions.assertEquals(series.getId(), actualSeries.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAnIndexedCategory_whenCallsFindAllAfterCursor_shouldSeekNextPages() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentarios", "A categoria menos assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        searchIndex.rebuild();
+
+        final var firstPage = categoryGateway.findAll(
+                new CategorySearchQuery(0, 2, "assist", "name", "asc"));
+
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(documentarios.getId(), firstPage.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), firstPage.items().get(1).getId());
+
+        final var secondPage = categoryGateway.findAll(
+                new CategorySearchQuery(0, 2, "assist", "name", "asc", firstPage.nextCursor(), null));
+
+        Assertions.assertFalse(secondPage.hasNext());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertEquals(series.getId(), secondPage.items().get(0).getId());
+    }
+
+    @Test
+    public void givenARelevanceSort_whenSearches_shouldRankNameHitsAboveDescriptionHitsAndExactAbovePrefix() {
+        final var acao = Category.newCategory("Ação", "Filmes com perseguições", true);
+        final var aventura = Category.newCategory("Aventura", "Filmes de ação e viagens", true);
+        final var acaoClassica = Category.newCategory("Clássicos de ação", null, true);
+        final var acoes = Category.newCategory("Açougue", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(acao),
+                CategoryJpaEntity.from(aventura),
+                CategoryJpaEntity.from(acaoClassica),
+                CategoryJpaEntity.from(acoes)
+        ));
+
+        searchIndex.rebuild();
+
+        final var actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "acao", "relevance", "asc"));
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(acao.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(acaoClassica.getId(), actualResult.items().get(1).getId());
+        Assertions.assertEquals(aventura.getId(), actualResult.items().get(2).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+
+        final var actualPrefixResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "ac", "relevance", "asc"));
+
+        Assertions.assertEquals(4, actualPrefixResult.total());
+        Assertions.assertEquals(acao.getId(), actualPrefixResult.items().get(0).getId());
+        Assertions.assertEquals(aventura.getId(), actualPrefixResult.items().get(3).getId());
+    }
+
+    @Test
+    public void givenAReadyIndex_whenCategoriesAreWrittenThroughTheGateway_shouldUpdateIncrementally() {
+        searchIndex.rebuild();
+
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        Assertions.assertEquals(1, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "film", "name", "asc")).total());
+
+        categoryGateway.update(filmes.clone().update("Cinema", "A categoria mais assistida", true));
+
+        Assertions.assertEquals(0, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "film", "name", "asc")).total());
+        Assertions.assertEquals(1, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "cine", "name", "asc")).total());
+
+        categoryGateway.deleteById(filmes.getId());
+
+        Assertions.assertEquals(0, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "cine", "name", "asc")).total());
+
+        final var actualReport = searchIndex.check();
+        Assertions.assertTrue(actualReport.consistent());
+        Assertions.assertEquals(0, actualReport.indexed());
+    }
+
+    @Test
+    public void givenDeletedCategories_whenNewOnesAreIndexed_shouldReuseTheFreedSlots() {
+        searchIndex.rebuild();
+
+        for (int i = 0; i < 5; i++) {
+            final var aCategory = categoryGateway.create(Category.newCategory("Filmes " + i, null, true));
+            categoryGateway.deleteById(aCategory.getId());
+        }
+        categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var actualReport = searchIndex.check();
+
+        Assertions.assertTrue(actualReport.consistent());
+        Assertions.assertEquals(1, actualReport.indexed());
+        Assertions.assertEquals(1, actualReport.slots());
+    }
+
+    @Test
+    public void givenAccentedAndMixedCaseNames_whenSortsByName_shouldFollowTheDatabaseCollation() {
+        final var alpha = Category.newCategory("Ábaco assistido", null, true);
+        final var bravo = Category.newCategory("banana assistida", null, true);
+        final var charlie = Category.newCategory("Cereja assistida", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(charlie),
+                CategoryJpaEntity.from(bravo),
+                CategoryJpaEntity.from(alpha)
+        ));
+
+        searchIndex.rebuild();
+
+        final var actualPage = categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "assist", "name", "asc"));
+
+        Assertions.assertEquals(
+                List.of(alpha.getId(), bravo.getId(), charlie.getId()),
+                actualPage.items().stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    public void givenAPatchedName_whenSearchesByTheDescription_shouldStillMatch() {
+        searchIndex.rebuild();
+
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        categoryGateway.patch(CategoryPatch.with(
+                filmes.getId(),
+                null,
+                Set.of(CategoryPatch.Field.NAME),
+                "Cinema",
+                null,
+                true
+        ));
+
+        Assertions.assertEquals(1, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "cine assist", "name", "asc")).total());
+        Assertions.assertEquals(0, categoryGateway.findAll(
+                new CategorySearchQuery(0, 10, "film", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenWritesBypassingTheGateway_whenChecksConsistency_shouldReportDrift() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.save(CategoryJpaEntity.from(filmes));
+
+        searchIndex.rebuild();
+
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        categoryRepository.save(CategoryJpaEntity.from(series));
+
+        final var actualReport = searchIndex.check();
+
+        Assertions.assertFalse(actualReport.consistent());
+        Assertions.assertEquals(1, actualReport.indexed());
+        Assertions.assertEquals(2, actualReport.stored());
+        Assertions.assertEquals(List.of(series.getId().getValue()), actualReport.missing());
+
+        searchIndex.rebuild();
+
+        Assertions.assertTrue(searchIndex.check().consistent());
+    }
+
+    @Test
+    public void givenADisabledIndex_whenCallsRebuild_shouldThrowDomainException() {
+        final var disabledIndex = new CategorySearchIndex(categoryRepository, false);
+
+        final var actualException = Assertions.assertThrows(DomainException.class, disabledIndex::rebuild);
+
+        Assertions.assertEquals("Category search index is disabled", actualException.getErrors().get(0).message());
+        Assertions.assertFalse(disabledIndex.isReady());
+    }
+}
@@ -0,0 +1,67 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.metrics;
+
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fc.kelton.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fc.kelton.admin.catalogo.domain.IdGenerator;
+import com.fc.kelton.admin.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class UseCaseMetricsAspectTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private SimpleMeterRegistry registry;
+
+    private CreateCategoryUseCase useCase;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        final var factory = new AspectJProxyFactory(new DefaultCreateCategoryUseCase(categoryGateway, IdGenerator.random()));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseMetricsAspect(registry));
+        useCase = factory.getProxy();
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_shouldTimeASuccessfulExecution() {
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        useCase.execute(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true));
+
+        final var actualTimer = registry.get("usecase.executions")
+                .tag("usecase", "CreateCategoryUseCase")
+                .tag("outcome", "success")
+                .timer();
+
+        Assertions.assertEquals(1, actualTimer.count());
+        Assertions.assertTrue(registry.find("usecase.errors").counters().isEmpty());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsCreateCategory_shouldCountANotification() {
+        useCase.execute(CreateCategoryCommand.with(null, "A categoria mais assistida", true));
+
+        final var actualErrors = registry.get("usecase.errors")
+                .tag("usecase", "CreateCategoryUseCase")
+                .tag("kind", "notification")
+                .counter();
+
+        Assertions.assertEquals(1.0, actualErrors.count());
+        Mockito.verify(categoryGateway, Mockito.never()).create(Mockito.any());
+    }
+}
@@ -0,0 +1,105 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fc.kelton.admin.catalogo.IntegrationTest;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fc.kelton.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fc.kelton.admin.catalogo.domain.category.Category;
+import com.fc.kelton.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fc.kelton.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fc.kelton.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "categories.datasource.replica.enabled=true",
+        "categories.datasource.replica.url=" + ReadReplicaRoutingIT.REPLICA_URL,
+        "categories.datasource.replica.username=root",
+        "categories.datasource.replica.password=123456",
+        "categories.cache.enabled=true"
+})
+public class ReadReplicaRoutingIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @BeforeAll
+    public static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "root", "123456")
+                .locations("classpath:db/migration", "classpath:db/h2")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    public void clearRouting() {
+        DataSourceRouting.clear();
+    }
+
+    @Test
+    public void givenACategoryOnlyOnThePrimary_whenCallsReadOnlyUseCases_shouldReadFromTheReplica() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+
+        Assertions.assertThrows(
+                NotFoundException.class,
+                () -> getCategoryByIdUseCase.execute(aCategory.getId().getValue())
+        );
+
+        final var actualPage = listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertTrue(actualPage.items().isEmpty());
+    }
+
+    @Test
+    public void givenARecentWrite_whenCallsReadOnlyUseCasePinnedToPrimary_shouldReadItsOwnWrite() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        DataSourceRouting.pinToPrimary();
+
+        final var actualCategory = getCategoryByIdUseCase.execute(aCategory.getId().getValue());
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.id());
+    }
+
+    @Test
+    public void givenAReplicaMiss_whenCallsReadOnlyUseCasesPinnedToPrimary_shouldNotServeItFromTheCache() {
+        final var aCategory = Category.newCategory("Documentarios", "Os mais premiados", true);
+        final var aQuery = new CategorySearchQuery(0, 10, "documentarios", "name", "asc");
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertThrows(
+                NotFoundException.class,
+                () -> getCategoryByIdUseCase.execute(aCategory.getId().getValue())
+        );
+        Assertions.assertEquals(0, listCategoriesUseCase.execute(aQuery).total());
+
+        DataSourceRouting.pinToPrimary();
+
+        final var actualCategory = getCategoryByIdUseCase.execute(aCategory.getId().getValue());
+        final var actualPage = listCategoriesUseCase.execute(aQuery);
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.id());
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(aCategory.getId(), actualPage.items().get(0).id());
+    }
+}
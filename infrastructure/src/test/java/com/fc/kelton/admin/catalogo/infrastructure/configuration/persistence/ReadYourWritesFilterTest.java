@@ -0,0 +1,74 @@
+package com.fc.kelton.admin.catalogo.infrastructure.configuration.persistence;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(true, Duration.ofSeconds(5));
+
+    @Test
+    public void givenASuccessfulWrite_whenFilters_shouldPinToThePrimaryAndSetTheCookie() throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/categories");
+        final var response = new MockHttpServletResponse();
+        final var actualRoute = new AtomicReference<DataSourceRouting.Route>();
+
+        filter.doFilter(request, response, (aRequest, aResponse) -> {
+            actualRoute.set(DataSourceRouting.current());
+            ((HttpServletResponse) aResponse).setStatus(HttpServletResponse.SC_CREATED);
+            aResponse.getOutputStream().write("{\"id\":\"123\"}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        Assertions.assertEquals(DataSourceRouting.Route.PRIMARY, actualRoute.get());
+        Assertions.assertEquals(HttpServletResponse.SC_CREATED, response.getStatus());
+        Assertions.assertEquals("{\"id\":\"123\"}", response.getContentAsString());
+        Assertions.assertNotNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    public void givenAFailedWrite_whenFilters_shouldNotSetTheCookie() throws Exception {
+        for (final var expectedStatus : new int[]{422, 409, 412, 503}) {
+            final var request = new MockHttpServletRequest("PATCH", "/categories/123");
+            final var response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, (aRequest, aResponse) -> {
+                ((HttpServletResponse) aResponse).setStatus(expectedStatus);
+                aResponse.getOutputStream().write("{\"message\":\"error\"}".getBytes(StandardCharsets.UTF_8));
+            });
+
+            Assertions.assertEquals(expectedStatus, response.getStatus());
+            Assertions.assertEquals("{\"message\":\"error\"}", response.getContentAsString());
+            Assertions.assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+        }
+    }
+
+    @Test
+    public void givenARecentWriteCookie_whenFiltersARead_shouldPinToThePrimary() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(System.currentTimeMillis() + 5000)));
+        final var response = new MockHttpServletResponse();
+        final var actualRoute = new AtomicReference<DataSourceRouting.Route>();
+
+        filter.doFilter(request, response, (aRequest, aResponse) ->
+                actualRoute.set(readRoute()));
+
+        Assertions.assertEquals(DataSourceRouting.Route.PRIMARY, actualRoute.get());
+        Assertions.assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    private static DataSourceRouting.Route readRoute() {
+        try {
+            return DataSourceRouting.readOnly(DataSourceRouting::current);
+        } catch (final Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
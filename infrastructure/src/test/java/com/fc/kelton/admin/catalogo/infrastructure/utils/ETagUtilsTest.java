@@ -0,0 +1,44 @@
+package com.fc.kelton.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+public class ETagUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "\"3\"|false",
+            "W/\"3\"|false",
+            "\"1\", W/\"3\"|false",
+            "*|false",
+            "\"1\", \"2\"|true"
+    })
+    public void givenAnIfNoneMatch_whenCallsNoneMatch_shouldCompareWeakly(
+            final String ifNoneMatch,
+            final boolean expectedResult
+    ) {
+        Assertions.assertEquals(expectedResult, ETagUtils.noneMatch(ifNoneMatch, 3L));
+    }
+
+    @Test
+    public void givenAnIfMatchList_whenCallsVersions_shouldReturnOnlyStrongVersions() {
+        Assertions.assertEquals(List.of(1L, 3L), ETagUtils.versions("\"1\", W/\"2\", \"3\" , \"1\""));
+    }
+
+    @Test
+    public void givenOnlyWeakOrMalformedTags_whenCallsVersions_shouldReturnEmpty() {
+        Assertions.assertTrue(ETagUtils.versions("W/\"3\"").isEmpty());
+        Assertions.assertTrue(ETagUtils.versions("\"abc\", 3, \"\"").isEmpty());
+    }
+
+    @Test
+    public void givenNoIfMatchOrAWildcard_whenCallsUnconditional_shouldReturnTrue() {
+        Assertions.assertTrue(ETagUtils.unconditional(null));
+        Assertions.assertTrue(ETagUtils.unconditional(" * "));
+        Assertions.assertFalse(ETagUtils.unconditional("\"3\""));
+    }
+}
@@ -0,0 +1,34 @@
+package com.fc.kelton.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class SpecificationUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "fil,+fil*",
+            "MAIS ASSISTIDA,+mais* +assistida*",
+            "da Amazon,+amazon*",
+            "crianças,+crianças*",
+            "+net -flix*,+net* +flix*"
+    })
+    public void givenSearchTerms_whenCallsFullTextQuery_shouldReturnBooleanModeQuery(
+            final String terms,
+            final String expectedQuery
+    ) {
+        final var actualQuery = SpecificationUtils.fullTextQuery(terms);
+
+        Assertions.assertTrue(actualQuery.isPresent());
+        Assertions.assertEquals(expectedQuery, actualQuery.get());
+    }
+
+    @Test
+    public void givenTermsShorterThanTheFullTextTokenSize_whenCallsFullTextQuery_shouldReturnEmpty() {
+        Assertions.assertTrue(SpecificationUtils.fullTextQuery("ki").isEmpty());
+        Assertions.assertTrue(SpecificationUtils.fullTextQuery("  ").isEmpty());
+        Assertions.assertTrue(SpecificationUtils.fullTextQuery(null).isEmpty());
+    }
+}